@@ -0,0 +1,76 @@
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const RATE = Number(__ENV.RATE || 200);
+const DURATION = __ENV.DURATION || '2m';
+const P99_MS = Number(__ENV.P99_MS || 250);
+const PASSWORD = __ENV.PASSWORD || 'LoadTest123!';
+
+export const options = {
+    scenarios: {
+        data: {
+            executor: 'constant-arrival-rate',
+            exec: 'browseCaregivers',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: Math.max(50, RATE),
+            maxVUs: RATE * 10,
+        },
+        verify: {
+            executor: 'constant-arrival-rate',
+            exec: 'verifyToken',
+            rate: Math.max(1, Math.floor(RATE / 2)),
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: Math.max(25, RATE / 2),
+            maxVUs: RATE * 5,
+        },
+    },
+    thresholds: {
+        'http_req_duration{scenario:data}': [`p(99)<${P99_MS}`],
+        'http_req_duration{scenario:verify}': [`p(99)<${P99_MS}`],
+        http_req_failed: ['rate<0.01'],
+        dropped_iterations: ['count==0'],
+    },
+};
+
+export function setup() {
+    const email = `loadtest-${Date.now()}@example.com`;
+    const headers = { 'Content-Type': 'application/json' };
+
+    http.post(`${BASE_URL}/api/auth/register/pacilian`, JSON.stringify({
+        email,
+        password: PASSWORD,
+        name: 'Load Test',
+        nik: String(Date.now()).padStart(16, '0').slice(-16),
+        address: 'Load Test Street',
+        phoneNumber: '081234567890',
+        medicalHistory: 'None',
+    }), { headers });
+
+    const login = http.post(`${BASE_URL}/api/auth/login`, JSON.stringify({ email, password: PASSWORD }), { headers });
+    const token = login.json('data.accessToken');
+
+    const page = http.get(`${BASE_URL}/api/data?limit=50`);
+    const ids = (page.json('data.items') || []).map((caregiver) => caregiver.id);
+
+    return { token, ids };
+}
+
+export function browseCaregivers(data) {
+    const response = data.ids.length > 0 && Math.random() < 0.8
+        ? http.get(`${BASE_URL}/api/data/caregiver/${data.ids[Math.floor(Math.random() * data.ids.length)]}`)
+        : http.get(`${BASE_URL}/api/data/search?name=a`);
+
+    check(response, { 'status is 200': (r) => r.status === 200 });
+}
+
+export function verifyToken(data) {
+    const response = http.post(`${BASE_URL}/api/auth/verify`, null, {
+        headers: { Authorization: `Bearer ${data.token}` },
+    });
+
+    check(response, { 'status is 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,134 @@
+package id.ac.ui.cs.advprog.beauthentication.benchmark;
+
+import id.ac.ui.cs.advprog.beauthentication.BeAuthenticationApplication;
+import id.ac.ui.cs.advprog.beauthentication.dto.CaregiverPublicDto;
+import id.ac.ui.cs.advprog.beauthentication.enums.Role;
+import id.ac.ui.cs.advprog.beauthentication.enums.Speciality;
+import id.ac.ui.cs.advprog.beauthentication.model.Caregiver;
+import id.ac.ui.cs.advprog.beauthentication.repository.CaregiverRepository;
+import id.ac.ui.cs.advprog.beauthentication.service.DataService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CaregiverSearchBenchmark {
+
+    private static final String[] FIRST_NAMES = {
+            "Andi", "Budi", "Citra", "Dewi", "Eka", "Fajar", "Gita", "Hadi", "Indah", "Joko"
+    };
+    private static final String[] LAST_NAMES = {
+            "Santoso", "Wijaya", "Pratama", "Saputra", "Lestari", "Kusuma", "Hidayat", "Nugroho"
+    };
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({"20000"})
+    private int caregiverCount;
+
+    private ConfigurableApplicationContext context;
+    private CaregiverRepository caregiverRepository;
+    private DataService dataService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BeAuthenticationApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:caregiver-search;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+                .run();
+        caregiverRepository = context.getBean(CaregiverRepository.class);
+        dataService = context.getBean(DataService.class);
+        seedCaregivers();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<CaregiverPublicDto> searchByNameInMemory() {
+        return searchInMemory("wijaya", null);
+    }
+
+    @Benchmark
+    public List<CaregiverPublicDto> searchByNameInDatabase() {
+        return dataService.searchCaregivers("wijaya", null);
+    }
+
+    @Benchmark
+    public List<CaregiverPublicDto> searchByNameAndSpecialityInMemory() {
+        return searchInMemory("wijaya", Speciality.SPESIALIS_ANAK);
+    }
+
+    @Benchmark
+    public List<CaregiverPublicDto> searchByNameAndSpecialityInDatabase() {
+        return dataService.searchCaregivers("wijaya", Speciality.SPESIALIS_ANAK);
+    }
+
+    private List<CaregiverPublicDto> searchInMemory(String name, Speciality speciality) {
+        return caregiverRepository.findAll().stream()
+                .filter(caregiver -> caregiver.getName().toLowerCase().contains(name.toLowerCase()))
+                .filter(caregiver -> speciality == null || caregiver.getSpeciality().equals(speciality))
+                .map(caregiver -> CaregiverPublicDto.builder()
+                        .id(caregiver.getId())
+                        .name(caregiver.getName())
+                        .email(caregiver.getEmail())
+                        .speciality(caregiver.getSpeciality())
+                        .workAddress(caregiver.getWorkAddress())
+                        .phoneNumber(caregiver.getPhoneNumber())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private void seedCaregivers() {
+        Random random = new Random(42);
+        Speciality[] specialities = Speciality.values();
+        List<Caregiver> batch = new ArrayList<>(BATCH_SIZE);
+
+        for (int i = 0; i < caregiverCount; i++) {
+            batch.add(Caregiver.builder()
+                    .email("caregiver" + i + "@example.com")
+                    .password("seeded-password")
+                    .name(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                            + LAST_NAMES[random.nextInt(LAST_NAMES.length)])
+                    .nik(String.format("%016d", i))
+                    .address("Seed Address " + i)
+                    .workAddress("Seed Clinic " + i)
+                    .phoneNumber(String.format("08%010d", i))
+                    .speciality(specialities[random.nextInt(specialities.length)])
+                    .role(Role.CAREGIVER)
+                    .build());
+
+            if (batch.size() == BATCH_SIZE) {
+                caregiverRepository.saveAll(batch);
+                batch.clear();
+            }
+        }
+        caregiverRepository.saveAll(batch);
+    }
+}
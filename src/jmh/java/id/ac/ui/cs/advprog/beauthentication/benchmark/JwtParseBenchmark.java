@@ -0,0 +1,67 @@
+package id.ac.ui.cs.advprog.beauthentication.benchmark;
+
+import id.ac.ui.cs.advprog.beauthentication.enums.Role;
+import id.ac.ui.cs.advprog.beauthentication.model.User;
+import id.ac.ui.cs.advprog.beauthentication.service.JwtServiceImpl;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtParseBenchmark {
+
+    private static final String SECRET_KEY = "0000000000000000000000000000000000000000000000000000000000000000";
+    private static final long EXPIRATION_TIME = 3600000;
+
+    private JwtServiceImpl jwtService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtServiceImpl();
+        setField(jwtService, "secretKey", SECRET_KEY);
+        setField(jwtService, "jwtExpirationTime", EXPIRATION_TIME);
+
+        User user = User.builder()
+                .id("benchmark-user-id")
+                .email("benchmark@example.com")
+                .name("Benchmark User")
+                .role(Role.PACILIAN)
+                .build();
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String parseWithFreshKeyAndParser() {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody()
+                .getSubject();
+    }
+
+    @Benchmark
+    public String parseWithCachedKeyAndParser() {
+        return jwtService.extractUsername(token);
+    }
+
+    private static void setField(Object target, String name, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
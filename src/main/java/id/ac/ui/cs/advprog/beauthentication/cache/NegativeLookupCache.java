@@ -0,0 +1,123 @@
+package id.ac.ui.cs.advprog.beauthentication.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import id.ac.ui.cs.advprog.beauthentication.enums.Role;
+import id.ac.ui.cs.advprog.beauthentication.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+public class NegativeLookupCache {
+
+    private final UserRepository userRepository;
+    private final Cache<MissKey, Boolean> missCache;
+    private final long minimumCapacity;
+    private final double falsePositiveProbability;
+    private final boolean bloomFilterEnabled;
+    private final Counter dataNegativeLookupHitCounter;
+
+    private volatile BloomFilter knownIds;
+    private volatile BloomFilter pendingIds;
+
+    public NegativeLookupCache(
+            UserRepository userRepository,
+            @Value("${data.negative-cache.miss-max-size:10000}") long missMaximumSize,
+            @Value("${data.negative-cache.miss-ttl:5000}") long missTtlMillis,
+            @Value("${data.negative-cache.minimum-capacity:10000}") long minimumCapacity,
+            @Value("${data.negative-cache.false-positive-probability:0.01}") double falsePositiveProbability,
+            @Value("${data.negative-cache.bloom-filter.enabled:false}") boolean bloomFilterEnabled,
+            Counter dataNegativeLookupHitCounter) {
+        this.userRepository = userRepository;
+        this.minimumCapacity = minimumCapacity;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.bloomFilterEnabled = bloomFilterEnabled;
+        this.dataNegativeLookupHitCounter = dataNegativeLookupHitCounter;
+        this.missCache = Caffeine.newBuilder()
+                .maximumSize(missMaximumSize)
+                .expireAfterWrite(Duration.ofMillis(missTtlMillis))
+                .build();
+    }
+
+    public boolean isKnownMissing(Role role, String id) {
+        BloomFilter filter = knownIds;
+        boolean missing = (filter != null && !filter.mightContain(id))
+                || missCache.getIfPresent(new MissKey(role, id)) != null;
+
+        if (missing) {
+            dataNegativeLookupHitCounter.increment();
+        }
+        return missing;
+    }
+
+    public void recordMissing(Role role, String id) {
+        missCache.put(new MissKey(role, id), Boolean.TRUE);
+    }
+
+    public void recordCreated(String id) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addKnownId(id);
+                }
+            });
+        } else {
+            addKnownId(id);
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${data.negative-cache.initial-delay:0}",
+            fixedDelayString = "${data.negative-cache.rebuild-interval:300000}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        if (!bloomFilterEnabled) {
+            return;
+        }
+
+        try {
+            BloomFilter rebuilt = new BloomFilter(
+                    Math.max(minimumCapacity, userRepository.count() * 2), falsePositiveProbability);
+            pendingIds = rebuilt;
+
+            try (Stream<String> ids = userRepository.streamAllIds()) {
+                ids.forEach(rebuilt::put);
+                knownIds = rebuilt;
+            }
+        } catch (DataAccessException e) {
+            log.warn("Could not rebuild known user id filter: {}", e.getMessage());
+        } finally {
+            pendingIds = null;
+        }
+    }
+
+    private void addKnownId(String id) {
+        BloomFilter pending = pendingIds;
+        BloomFilter known = knownIds;
+
+        if (pending != null) {
+            pending.put(id);
+        }
+        if (known != null) {
+            known.put(id);
+        }
+        for (Role role : Role.values()) {
+            missCache.invalidate(new MissKey(role, id));
+        }
+    }
+
+    private record MissKey(Role role, String id) {
+    }
+}
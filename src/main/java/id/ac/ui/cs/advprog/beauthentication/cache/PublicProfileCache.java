@@ -0,0 +1,83 @@
+package id.ac.ui.cs.advprog.beauthentication.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import id.ac.ui.cs.advprog.beauthentication.dto.CaregiverPublicDto;
+import id.ac.ui.cs.advprog.beauthentication.dto.PacilianPublicDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+@Component
+public class PublicProfileCache {
+
+    private final Cache<String, CaregiverPublicDto> caregiverCache;
+    private final Cache<String, PacilianPublicDto> pacilianCache;
+
+    public PublicProfileCache(
+            @Value("${data.profile-cache.max-size:10000}") long maximumSize,
+            @Value("${data.profile-cache.ttl:300000}") long ttlMillis,
+            MeterRegistry meterRegistry) {
+        this.caregiverCache = buildCache(maximumSize, ttlMillis);
+        this.pacilianCache = buildCache(maximumSize, ttlMillis);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, caregiverCache, "data.profile.caregiver");
+        CaffeineCacheMetrics.monitor(meterRegistry, pacilianCache, "data.profile.pacilian");
+    }
+
+    public CaregiverPublicDto getCaregiver(String id, Function<String, CaregiverPublicDto> loader) {
+        return caregiverCache.get(id, loader);
+    }
+
+    public PacilianPublicDto getPacilian(String id, Function<String, PacilianPublicDto> loader) {
+        return pacilianCache.get(id, loader);
+    }
+
+    public CaregiverPublicDto getCachedCaregiver(String id) {
+        return caregiverCache.getIfPresent(id);
+    }
+
+    public PacilianPublicDto getCachedPacilian(String id) {
+        return pacilianCache.getIfPresent(id);
+    }
+
+    public void putCaregiver(String id, CaregiverPublicDto caregiver) {
+        caregiverCache.put(id, caregiver);
+    }
+
+    public void putPacilian(String id, PacilianPublicDto pacilian) {
+        pacilianCache.put(id, pacilian);
+    }
+
+    public void evict(String id) {
+        invalidate(id);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(id);
+                }
+            });
+        }
+    }
+
+    private void invalidate(String id) {
+        caregiverCache.invalidate(id);
+        pacilianCache.invalidate(id);
+    }
+
+    private static <V> Cache<String, V> buildCache(long maximumSize, long ttlMillis) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+    }
+}
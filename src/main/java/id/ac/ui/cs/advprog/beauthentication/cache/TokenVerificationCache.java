@@ -0,0 +1,122 @@
+package id.ac.ui.cs.advprog.beauthentication.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import id.ac.ui.cs.advprog.beauthentication.dto.TokenVerificationResponseDto;
+import id.ac.ui.cs.advprog.beauthentication.dto.ValidatedTokenDto;
+import io.micrometer.core.instrument.Counter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+@Component
+public class TokenVerificationCache {
+
+    private final Cache<String, CachedVerification> cache;
+    private final Counter tokenVerificationCacheHitCounter;
+    private final Counter tokenVerificationCacheMissCounter;
+
+    public TokenVerificationCache(
+            @Value("${security.jwt.verification-cache.max-size:10000}") long maximumSize,
+            @Value("${security.jwt.verification-cache.ttl:60000}") long ttlMillis,
+            Counter tokenVerificationCacheHitCounter,
+            Counter tokenVerificationCacheMissCounter,
+            Counter tokenVerificationCacheEvictionCounter) {
+        this.tokenVerificationCacheHitCounter = tokenVerificationCacheHitCounter;
+        this.tokenVerificationCacheMissCounter = tokenVerificationCacheMissCounter;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry(TimeUnit.MILLISECONDS.toNanos(ttlMillis)))
+                .evictionListener((String key, CachedVerification value, RemovalCause cause) ->
+                        tokenVerificationCacheEvictionCounter.increment())
+                .build();
+    }
+
+    public Optional<TokenVerificationResponseDto> get(String token) {
+        return get(token, validatedToken -> true);
+    }
+
+    public Optional<TokenVerificationResponseDto> get(String token, Predicate<ValidatedTokenDto> stillValid) {
+        String key = digest(token);
+        CachedVerification cached = cache.getIfPresent(key);
+        long remainingTime = cached == null ? 0 : cached.remainingTime();
+
+        if (remainingTime <= 0) {
+            tokenVerificationCacheMissCounter.increment();
+            return Optional.empty();
+        }
+
+        if (!stillValid.test(cached.validatedToken())) {
+            cache.invalidate(key);
+            tokenVerificationCacheMissCounter.increment();
+            return Optional.empty();
+        }
+
+        tokenVerificationCacheHitCounter.increment();
+        TokenVerificationResponseDto response = cached.response();
+        return Optional.of(TokenVerificationResponseDto.builder()
+                .valid(response.isValid())
+                .userId(response.getUserId())
+                .email(response.getEmail())
+                .role(response.getRole())
+                .expiresIn(remainingTime)
+                .build());
+    }
+
+    public void put(String token, ValidatedTokenDto validatedToken, TokenVerificationResponseDto response) {
+        if (!response.isValid() || validatedToken.getExpiration() == null) {
+            return;
+        }
+
+        CachedVerification cached = new CachedVerification(validatedToken, response);
+        if (cached.remainingTime() > 0) {
+            cache.put(digest(token), cached);
+        }
+    }
+
+    public void invalidate(String token) {
+        cache.invalidate(digest(token));
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record CachedVerification(ValidatedTokenDto validatedToken, TokenVerificationResponseDto response) {
+        long remainingTime() {
+            return validatedToken.getExpiration().getTime() - System.currentTimeMillis();
+        }
+    }
+
+    private record TokenExpiry(long ttlNanos) implements Expiry<String, CachedVerification> {
+        @Override
+        public long expireAfterCreate(String key, CachedVerification value, long currentTime) {
+            long untilTokenExpiry = TimeUnit.MILLISECONDS.toNanos(Math.max(0, value.remainingTime()));
+            return Math.min(ttlNanos, untilTokenExpiry);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedVerification value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedVerification value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,17 +1,28 @@
 package id.ac.ui.cs.advprog.beauthentication.config;
 
+import id.ac.ui.cs.advprog.beauthentication.model.User;
 import id.ac.ui.cs.advprog.beauthentication.repository.UserRepository;
+import id.ac.ui.cs.advprog.beauthentication.security.BoundedPasswordEncoder;
+import id.ac.ui.cs.advprog.beauthentication.security.PasswordUpgradingAuthenticationProvider;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
-import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.Map;
 
 @Configuration
 @RequiredArgsConstructor
@@ -26,11 +37,23 @@ public class ApplicationConfig {
     }
 
     @Bean
-    public AuthenticationProvider authenticationProvider() {
-        DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
-        authProvider.setUserDetailsService(userDetailsService());
-        authProvider.setPasswordEncoder(passwordEncoder());
-        return authProvider;
+    public UserDetailsPasswordService userDetailsPasswordService() {
+        return (userDetails, newPassword) -> {
+            userRepository.updatePasswordByEmail(userDetails.getUsername(), newPassword);
+
+            if (userDetails instanceof User user) {
+                user.setPassword(newPassword);
+                return user;
+            }
+            return userRepository.findByEmail(userDetails.getUsername())
+                    .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        };
+    }
+
+    @Bean
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
+        return new PasswordUpgradingAuthenticationProvider(
+                userDetailsService(), passwordEncoder, userDetailsPasswordService());
     }
 
     @Bean
@@ -39,7 +62,34 @@ public class ApplicationConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${security.password.encoder:bcrypt}") String encodingId,
+            @Value("${security.password.bcrypt-strength:10}") int bcryptStrength,
+            @Value("${security.password.hash-pool-size:0}") int poolSize,
+            @Value("${security.password.hash-queue-capacity:64}") int queueCapacity,
+            @Value("${security.password.retry-after:1}") long retryAfterSeconds,
+            Timer passwordHashQueueTimer,
+            Timer passwordHashTimer,
+            Counter passwordHashRejectionCounter) {
+        return new BoundedPasswordEncoder(
+                createDelegatingPasswordEncoder(encodingId, bcryptStrength),
+                poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors(),
+                queueCapacity,
+                retryAfterSeconds,
+                passwordHashQueueTimer,
+                passwordHashTimer,
+                passwordHashRejectionCounter);
+    }
+
+    private PasswordEncoder createDelegatingPasswordEncoder(String encodingId, int bcryptStrength) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        Map<String, PasswordEncoder> encoders = Map.of(
+                "bcrypt", bcrypt,
+                "pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8(),
+                "argon2", Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+
+        DelegatingPasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder(encodingId, encoders);
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return delegatingPasswordEncoder;
     }
 }
\ No newline at end of file
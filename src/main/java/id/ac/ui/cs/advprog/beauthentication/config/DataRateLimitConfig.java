@@ -0,0 +1,48 @@
+package id.ac.ui.cs.advprog.beauthentication.config;
+
+import id.ac.ui.cs.advprog.beauthentication.filter.AdaptiveConcurrencyLimiter;
+import id.ac.ui.cs.advprog.beauthentication.filter.DataRateLimitFilter;
+import id.ac.ui.cs.advprog.beauthentication.security.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.Counter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+@Configuration
+public class DataRateLimitConfig {
+
+    @Bean
+    public FilterRegistrationBean<DataRateLimitFilter> dataRateLimitFilter(
+            @Value("${data.rate-limit.enabled:true}") boolean enabled,
+            @Value("${data.rate-limit.rate:20}") double rate,
+            @Value("${data.rate-limit.burst:40}") int burst,
+            @Value("${data.rate-limit.expensive-rate:5}") double expensiveRate,
+            @Value("${data.rate-limit.expensive-burst:10}") int expensiveBurst,
+            @Value("${data.rate-limit.max-clients:100000}") long maximumClients,
+            @Value("${data.concurrency.retry-after:1}") long overloadRetryAfterSeconds,
+            AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter,
+            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver handlerExceptionResolver,
+            Counter dataRequestAdmittedCounter,
+            Counter dataRequestRateLimitedCounter,
+            Counter dataRequestShedCounter) {
+        DataRateLimitFilter filter = new DataRateLimitFilter(
+                new TokenBucketRateLimiter(rate, burst, maximumClients),
+                new TokenBucketRateLimiter(expensiveRate, expensiveBurst, maximumClients),
+                adaptiveConcurrencyLimiter,
+                handlerExceptionResolver,
+                overloadRetryAfterSeconds,
+                dataRequestAdmittedCounter,
+                dataRequestRateLimitedCounter,
+                dataRequestShedCounter);
+
+        FilterRegistrationBean<DataRateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/data", "/api/data/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        registration.setEnabled(enabled);
+        return registration;
+    }
+}
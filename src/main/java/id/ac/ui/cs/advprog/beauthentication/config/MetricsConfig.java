@@ -58,6 +58,55 @@ public class MetricsConfig {
                 .register(meterRegistry);
     }
 
+    @Bean
+    public Counter tokenVerificationCacheHitCounter(MeterRegistry meterRegistry) {
+        return Counter.builder("auth.token.verification.cache.hit")
+                .description("Number of token verifications answered from the cache")
+                .register(meterRegistry);
+    }
+
+    @Bean
+    public Counter tokenVerificationCacheMissCounter(MeterRegistry meterRegistry) {
+        return Counter.builder("auth.token.verification.cache.miss")
+                .description("Number of token verifications not found in the cache")
+                .register(meterRegistry);
+    }
+
+    @Bean
+    public Counter tokenVerificationCacheEvictionCounter(MeterRegistry meterRegistry) {
+        return Counter.builder("auth.token.verification.cache.eviction")
+                .description("Number of token verification cache entries evicted by size or expiry")
+                .register(meterRegistry);
+    }
+
+    @Bean
+    public Timer passwordHashQueueTimer(MeterRegistry meterRegistry) {
+        return Timer.builder("auth.password.hash.queue")
+                .description("Time password hashing work waits for a hashing thread")
+                .register(meterRegistry);
+    }
+
+    @Bean
+    public Timer passwordHashTimer(MeterRegistry meterRegistry) {
+        return Timer.builder("auth.password.hash")
+                .description("Time taken to hash or match a password")
+                .register(meterRegistry);
+    }
+
+    @Bean
+    public Counter passwordHashRejectionCounter(MeterRegistry meterRegistry) {
+        return Counter.builder("auth.password.hash.rejected")
+                .description("Number of password hashing requests rejected because the hashing queue was full")
+                .register(meterRegistry);
+    }
+
+    @Bean
+    public Counter virtualThreadPinnedCounter(MeterRegistry meterRegistry) {
+        return Counter.builder("jvm.threads.virtual.pinned")
+                .description("Number of virtual threads pinned to their carrier longer than the configured threshold")
+                .register(meterRegistry);
+    }
+
     @Bean
     public Counter profileViewCounter(MeterRegistry meterRegistry) {
         return Counter.builder("profile.view.total")
@@ -136,6 +185,13 @@ public class MetricsConfig {
                 .register(meterRegistry);
     }
 
+    @Bean
+    public Timer dataExportTimer(MeterRegistry meterRegistry) {
+        return Timer.builder("data.export.duration")
+                .description("Time taken to stream caregiver exports")
+                .register(meterRegistry);
+    }
+
     @Bean
     public Counter dataRequestFailureCounter(MeterRegistry meterRegistry) {
         return Counter.builder("data.request.failure")
@@ -156,4 +212,86 @@ public class MetricsConfig {
                 .description("Number of pacilian not found errors")
                 .register(meterRegistry);
     }
-}
\ No newline at end of file
+
+    @Bean
+    public Counter dataNegativeLookupHitCounter(MeterRegistry meterRegistry) {
+        return Counter.builder("data.lookup.negative.hit")
+                .description("Number of not found lookups answered without querying the database")
+                .register(meterRegistry);
+    }
+
+    @Bean
+    public Counter refreshSuccessCounter(MeterRegistry meterRegistry) {
+        return Counter.builder("auth.refresh.success")
+                .description("Number of access tokens issued from a refresh token")
+                .register(meterRegistry);
+    }
+
+    @Bean
+    public Counter refreshFailureCounter(MeterRegistry meterRegistry) {
+        return Counter.builder("auth.refresh.failure")
+                .description("Number of rejected refresh token exchanges")
+                .register(meterRegistry);
+    }
+
+    @Bean
+    public Counter refreshTokenReuseCounter(MeterRegistry meterRegistry) {
+        return Counter.builder("auth.refresh.reuse")
+                .description("Number of replayed refresh tokens that revoked their token family")
+                .register(meterRegistry);
+    }
+
+    @Bean
+    public Counter tokenRevocationCounter(MeterRegistry meterRegistry) {
+        return Counter.builder("auth.token.revoked")
+                .description("Number of access tokens revoked before expiry")
+                .register(meterRegistry);
+    }
+
+    @Bean
+    public Counter loginThrottledByEmailCounter(MeterRegistry meterRegistry) {
+        return Counter.builder("auth.login.throttled")
+                .tag("key", "email")
+                .description("Number of login attempts rejected by the per-email rate limit")
+                .register(meterRegistry);
+    }
+
+    @Bean
+    public Counter loginThrottledByClientCounter(MeterRegistry meterRegistry) {
+        return Counter.builder("auth.login.throttled")
+                .tag("key", "client")
+                .description("Number of login attempts rejected by the per-client rate limit")
+                .register(meterRegistry);
+    }
+
+    @Bean
+    public Counter accountLockoutCounter(MeterRegistry meterRegistry) {
+        return Counter.builder("auth.login.lockout")
+                .description("Number of accounts locked after too many consecutive failed logins")
+                .register(meterRegistry);
+    }
+
+    @Bean
+    public Counter dataRequestAdmittedCounter(MeterRegistry meterRegistry) {
+        return Counter.builder("data.request.admission")
+                .tag("decision", "admitted")
+                .description("Number of data requests admitted by the rate and concurrency limits")
+                .register(meterRegistry);
+    }
+
+    @Bean
+    public Counter dataRequestRateLimitedCounter(MeterRegistry meterRegistry) {
+        return Counter.builder("data.request.admission")
+                .tag("decision", "rate_limited")
+                .description("Number of data requests rejected by the per-client route rate limit")
+                .register(meterRegistry);
+    }
+
+    @Bean
+    public Counter dataRequestShedCounter(MeterRegistry meterRegistry) {
+        return Counter.builder("data.request.admission")
+                .tag("decision", "shed")
+                .description("Number of data requests shed by the adaptive concurrency limit")
+                .register(meterRegistry);
+    }
+}
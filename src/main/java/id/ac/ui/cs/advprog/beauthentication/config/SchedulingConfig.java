@@ -0,0 +1,9 @@
+package id.ac.ui.cs.advprog.beauthentication.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,38 @@
+package id.ac.ui.cs.advprog.beauthentication.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexInitializer implements ApplicationRunner {
+
+    private static final String POSTGRESQL = "PostgreSQL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            String databaseProduct = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+
+            if (!POSTGRESQL.equals(databaseProduct)) {
+                return;
+            }
+
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_users_name_trgm "
+                    + "ON users USING gin (upper(name) gin_trgm_ops)");
+        } catch (DataAccessException e) {
+            log.warn("Could not create caregiver name search index: {}", e.getMessage());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package id.ac.ui.cs.advprog.beauthentication.config;
 
 import id.ac.ui.cs.advprog.beauthentication.filter.JwtAuthFilter;
+import id.ac.ui.cs.advprog.beauthentication.security.TokenRevocationLogoutHandler;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -26,6 +27,7 @@ public class SecurityConfig {
 
     private final JwtAuthFilter jwtAuthFilter;
     private final AuthenticationProvider authenticationProvider;
+    private final TokenRevocationLogoutHandler tokenRevocationLogoutHandler;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -36,8 +38,11 @@ public class SecurityConfig {
                         .requestMatchers("/api").permitAll()
                         .requestMatchers("/api/auth/register/**").permitAll()
                         .requestMatchers("/api/auth/login").permitAll()
+                        .requestMatchers("/api/auth/refresh").permitAll()
                         .requestMatchers("/api/auth/verify").permitAll()
+                        .requestMatchers("/api/auth/verify/batch").permitAll()
                         .requestMatchers("/api/data/**").permitAll()
+                        .requestMatchers("/.well-known/jwks.json").permitAll()
                         .requestMatchers("/api/profile/**").authenticated()
                         .requestMatchers("/error").permitAll()
                         .requestMatchers("/actuator/**").permitAll()
@@ -48,6 +53,7 @@ public class SecurityConfig {
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .logout(logout -> logout
                         .logoutUrl("/api/auth/logout")
+                        .addLogoutHandler(tokenRevocationLogoutHandler)
                         .logoutSuccessHandler((request, response, authentication) -> {
                             response.setContentType("application/json");
                             response.setStatus(HttpServletResponse.SC_OK);
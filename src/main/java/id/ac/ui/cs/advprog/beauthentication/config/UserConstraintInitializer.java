@@ -0,0 +1,63 @@
+package id.ac.ui.cs.advprog.beauthentication.config;
+
+import id.ac.ui.cs.advprog.beauthentication.model.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserConstraintInitializer implements ApplicationRunner {
+
+    private static final String POSTGRESQL = "PostgreSQL";
+
+    private static final Map<String, String> NAMED_CONSTRAINTS = Map.of(
+            "email", User.EMAIL_CONSTRAINT,
+            "nik", User.NIK_CONSTRAINT);
+
+    private static final String LEGACY_CONSTRAINTS_QUERY = "SELECT con.conname FROM pg_constraint con "
+            + "JOIN pg_class rel ON rel.oid = con.conrelid "
+            + "JOIN pg_attribute att ON att.attrelid = con.conrelid AND att.attnum = con.conkey[1] "
+            + "WHERE rel.relname = 'users' AND pg_table_is_visible(rel.oid) "
+            + "AND con.contype = 'u' AND cardinality(con.conkey) = 1 "
+            + "AND att.attname = ? AND con.conname <> ? "
+            + "AND EXISTS (SELECT 1 FROM pg_constraint named "
+            + "WHERE named.conrelid = rel.oid AND named.conname = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            String databaseProduct = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+
+            if (!POSTGRESQL.equals(databaseProduct)) {
+                return;
+            }
+
+            NAMED_CONSTRAINTS.forEach(this::dropLegacyConstraints);
+        } catch (DataAccessException e) {
+            log.warn("Could not drop legacy users unique constraints: {}", e.getMessage());
+        }
+    }
+
+    private void dropLegacyConstraints(String column, String namedConstraint) {
+        List<String> legacyConstraints = jdbcTemplate.queryForList(
+                LEGACY_CONSTRAINTS_QUERY, String.class, column, namedConstraint, namedConstraint);
+
+        for (String constraint : legacyConstraints) {
+            jdbcTemplate.execute("ALTER TABLE users DROP CONSTRAINT \"" + constraint.replace("\"", "\"\"") + "\"");
+            log.info("Dropped legacy unique constraint {} on users.{}", constraint, column);
+        }
+    }
+}
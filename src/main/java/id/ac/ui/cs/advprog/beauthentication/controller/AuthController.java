@@ -3,17 +3,20 @@ package id.ac.ui.cs.advprog.beauthentication.controller;
 import id.ac.ui.cs.advprog.beauthentication.dto.*;
 import id.ac.ui.cs.advprog.beauthentication.model.Caregiver;
 import id.ac.ui.cs.advprog.beauthentication.model.Pacilian;
+import id.ac.ui.cs.advprog.beauthentication.security.LoginThrottle;
 import id.ac.ui.cs.advprog.beauthentication.service.AuthService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -23,6 +26,7 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthService authService;
+    private final LoginThrottle loginThrottle;
 
     @PostMapping(path = "/register/pacilian", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<ApiResponseDto<RegisterResponseDto>> registerPacilian(@Valid @RequestBody RegisterPacilianDto registerDto) {
@@ -43,7 +47,8 @@ public class AuthController {
     }
 
     @PostMapping(path = "/login", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<ApiResponseDto<LoginResponseDto>> login(@Valid @RequestBody LoginDto loginDto) {
+    public ResponseEntity<ApiResponseDto<LoginResponseDto>> login(@Valid @RequestBody LoginDto loginDto, HttpServletRequest request) {
+        loginThrottle.checkAllowed(loginDto.getEmail(), request.getRemoteAddr());
         LoginResponseDto response = authService.login(loginDto);
         return ResponseEntity.ok(
                 ApiResponseDto.success(HttpStatus.OK.value(), 
@@ -51,6 +56,15 @@ public class AuthController {
                                 response));
     }
 
+    @PostMapping(path = "/refresh", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponseDto<LoginResponseDto>> refresh(@Valid @RequestBody RefreshTokenDto refreshTokenDto) {
+        LoginResponseDto response = authService.refresh(refreshTokenDto);
+        return ResponseEntity.ok(
+                ApiResponseDto.success(HttpStatus.OK.value(), 
+                                "Token refreshed successfully", 
+                                response));
+    }
+
     @PostMapping(path = "/logout")
     public ResponseEntity<ApiResponseDto<Void>> logout(HttpServletRequest request) {
         authService.logout();
@@ -60,6 +74,15 @@ public class AuthController {
                                 null));
     }
 
+    @PostMapping(path = "/logout/all")
+    public ResponseEntity<ApiResponseDto<Void>> logoutEverywhere(Authentication authentication) {
+        authService.logoutEverywhere(authentication);
+        return ResponseEntity.ok(
+                ApiResponseDto.success(HttpStatus.OK.value(), 
+                                "Logged out from all sessions successfully", 
+                                null));
+    }
+
     @PostMapping(path = "/verify", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<ApiResponseDto<TokenVerificationResponseDto>> verifyToken(HttpServletRequest request) {
         String authHeader = request.getHeader("Authorization");
@@ -84,4 +107,14 @@ public class AuthController {
                                         "Invalid or expired token"));
         }
     }
+
+    @PostMapping(path = "/verify/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponseDto<List<TokenVerificationResponseDto>>> verifyTokens(
+            @Valid @RequestBody BatchTokenVerificationDto batchDto) {
+        List<TokenVerificationResponseDto> response = authService.verifyTokens(batchDto.getTokens());
+        return ResponseEntity.ok(
+                ApiResponseDto.success(HttpStatus.OK.value(),
+                                "Tokens verified successfully",
+                                response));
+    }
 }
\ No newline at end of file
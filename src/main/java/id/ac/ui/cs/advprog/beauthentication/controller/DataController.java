@@ -1,26 +1,35 @@
 package id.ac.ui.cs.advprog.beauthentication.controller;
 
 import id.ac.ui.cs.advprog.beauthentication.dto.ApiResponseDto;
+import id.ac.ui.cs.advprog.beauthentication.dto.CaregiverPageDto;
 import id.ac.ui.cs.advprog.beauthentication.dto.CaregiverPublicDto;
 import id.ac.ui.cs.advprog.beauthentication.dto.PacilianPublicDto;
 import id.ac.ui.cs.advprog.beauthentication.enums.Speciality;
 import id.ac.ui.cs.advprog.beauthentication.service.DataService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/data")
+@Profile("!reactive-data")
 @RequiredArgsConstructor
 @CrossOrigin(origins = "*")
 public class DataController {
 
         private final DataService dataService;
 
+        @Value("${data.export.timeout:600000}")
+        private long exportTimeoutMillis;
+
         @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
         public ResponseEntity<ApiResponseDto<List<CaregiverPublicDto>>> getAllCaregivers() {
                 List<CaregiverPublicDto> caregivers = dataService.getAllActiveCaregivers();
@@ -30,36 +39,37 @@ public class DataController {
                                                 caregivers));
         }
 
+        @GetMapping(params = "limit", produces = MediaType.APPLICATION_JSON_VALUE)
+        public ResponseEntity<ApiResponseDto<CaregiverPageDto>> getCaregiverPage(
+                        @RequestParam int limit,
+                        @RequestParam(required = false) String cursor) {
+                CaregiverPageDto page = dataService.getCaregiverPage(limit, cursor);
+                return ResponseEntity.ok(
+                                ApiResponseDto.success(HttpStatus.OK.value(),
+                                                "Caregivers retrieved successfully",
+                                                page));
+        }
+
+        @GetMapping(path = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+        public WebAsyncTask<Void> exportCaregivers(HttpServletResponse response) {
+                response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+                return new WebAsyncTask<>(exportTimeoutMillis, () -> {
+                        dataService.exportCaregivers(response.getOutputStream());
+                        return null;
+                });
+        }
+
         @GetMapping(path = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
         public ResponseEntity<ApiResponseDto<List<CaregiverPublicDto>>> searchCaregivers(
                         @RequestParam(required = false) String name,
                         @RequestParam(required = false) String speciality) {
 
-                String decodedSpeciality = speciality;
-                if (speciality != null && !speciality.trim().isEmpty()) {
-                        try {
-                                decodedSpeciality = java.net.URLDecoder.decode(speciality, "UTF-8");
-
-                                if (decodedSpeciality.contains("%")) {
-                                        decodedSpeciality = java.net.URLDecoder.decode(decodedSpeciality, "UTF-8");
-                                }
-                        } catch (Exception e) {
-                                decodedSpeciality = speciality;
-                        }
-                }
-
-                Speciality specialityEnum = null;
-                if (decodedSpeciality != null && !decodedSpeciality.trim().isEmpty()) {
-                        try {
-                                specialityEnum = Speciality.fromDisplayName(decodedSpeciality.trim());
-                        } catch (IllegalArgumentException e) {
-                                return ResponseEntity.badRequest().body(
-                                                ApiResponseDto.error(HttpStatus.BAD_REQUEST.value(),
-                                                                "Invalid speciality: " + decodedSpeciality +
-                                                                                ". Valid specialities are: "
-                                                                                + java.util.Arrays.toString(
-                                                                                                Speciality.values())));
-                        }
+                Speciality specialityEnum;
+                try {
+                        specialityEnum = SpecialityParameter.parse(speciality);
+                } catch (IllegalArgumentException e) {
+                        return ResponseEntity.badRequest().body(
+                                        ApiResponseDto.error(HttpStatus.BAD_REQUEST.value(), e.getMessage()));
                 }
 
                 List<CaregiverPublicDto> caregivers = dataService.searchCaregivers(name, specialityEnum);
@@ -0,0 +1,47 @@
+package id.ac.ui.cs.advprog.beauthentication.controller;
+
+import id.ac.ui.cs.advprog.beauthentication.security.JwtKeyProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.util.Map;
+
+@RestController
+@CrossOrigin(origins = "*")
+public class JwksController {
+
+    private final JwtKeyProvider jwtKeyProvider;
+    private final CacheControl cacheControl;
+
+    public JwksController(
+            JwtKeyProvider jwtKeyProvider,
+            @Value("${security.jwt.jwks.max-age:900}") long maxAgeSeconds) {
+        this.jwtKeyProvider = jwtKeyProvider;
+        this.cacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds))
+                .cachePublic()
+                .staleWhileRevalidate(Duration.ofSeconds(maxAgeSeconds))
+                .staleIfError(Duration.ofDays(1));
+    }
+
+    @GetMapping(path = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, Object>> getJwks(WebRequest request) {
+        Map<String, Object> jwks = jwtKeyProvider.jwks();
+        String eTag = "\"" + Integer.toHexString(jwks.hashCode()) + "\"";
+
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .eTag(eTag)
+                .body(jwks);
+    }
+}
@@ -0,0 +1,91 @@
+package id.ac.ui.cs.advprog.beauthentication.controller;
+
+import id.ac.ui.cs.advprog.beauthentication.dto.ApiResponseDto;
+import id.ac.ui.cs.advprog.beauthentication.dto.CaregiverPageDto;
+import id.ac.ui.cs.advprog.beauthentication.dto.CaregiverPublicDto;
+import id.ac.ui.cs.advprog.beauthentication.dto.PacilianPublicDto;
+import id.ac.ui.cs.advprog.beauthentication.enums.Speciality;
+import id.ac.ui.cs.advprog.beauthentication.service.ReactiveDataService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/data")
+@Profile("reactive-data")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class ReactiveDataController {
+
+        private final ReactiveDataService reactiveDataService;
+
+        @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+        public Mono<ResponseEntity<ApiResponseDto<List<CaregiverPublicDto>>>> getAllCaregivers() {
+                return reactiveDataService.getAllActiveCaregivers()
+                                .map(caregivers -> ResponseEntity.ok(
+                                                ApiResponseDto.success(HttpStatus.OK.value(),
+                                                                "Caregivers retrieved successfully",
+                                                                caregivers)));
+        }
+
+        @GetMapping(params = "limit", produces = MediaType.APPLICATION_JSON_VALUE)
+        public Mono<ResponseEntity<ApiResponseDto<CaregiverPageDto>>> getCaregiverPage(
+                        @RequestParam int limit,
+                        @RequestParam(required = false) String cursor) {
+                return reactiveDataService.getCaregiverPage(limit, cursor)
+                                .map(page -> ResponseEntity.ok(
+                                                ApiResponseDto.success(HttpStatus.OK.value(),
+                                                                "Caregivers retrieved successfully",
+                                                                page)));
+        }
+
+        @GetMapping(path = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+        public Flux<CaregiverPublicDto> exportCaregivers() {
+                return reactiveDataService.exportCaregivers();
+        }
+
+        @GetMapping(path = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+        public Mono<ResponseEntity<ApiResponseDto<List<CaregiverPublicDto>>>> searchCaregivers(
+                        @RequestParam(required = false) String name,
+                        @RequestParam(required = false) String speciality) {
+
+                Speciality specialityEnum;
+                try {
+                        specialityEnum = SpecialityParameter.parse(speciality);
+                } catch (IllegalArgumentException e) {
+                        return Mono.just(ResponseEntity.badRequest().body(
+                                        ApiResponseDto.error(HttpStatus.BAD_REQUEST.value(), e.getMessage())));
+                }
+
+                return reactiveDataService.searchCaregivers(name, specialityEnum)
+                                .map(caregivers -> ResponseEntity.ok(
+                                                ApiResponseDto.success(HttpStatus.OK.value(),
+                                                                "Caregivers search completed successfully",
+                                                                caregivers)));
+        }
+
+        @GetMapping(path = "/caregiver/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+        public Mono<ResponseEntity<ApiResponseDto<CaregiverPublicDto>>> getCaregiverById(@PathVariable String id) {
+                return reactiveDataService.getCaregiverById(id)
+                                .map(caregiver -> ResponseEntity.ok(
+                                                ApiResponseDto.success(HttpStatus.OK.value(),
+                                                                "Caregiver retrieved successfully",
+                                                                caregiver)));
+        }
+
+        @GetMapping(path = "/pacilian/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+        public Mono<ResponseEntity<ApiResponseDto<PacilianPublicDto>>> getPacilianById(@PathVariable String id) {
+                return reactiveDataService.getPacilianById(id)
+                                .map(pacilian -> ResponseEntity.ok(
+                                                ApiResponseDto.success(HttpStatus.OK.value(),
+                                                                "Pacilian retrieved successfully",
+                                                                pacilian)));
+        }
+}
@@ -0,0 +1,45 @@
+package id.ac.ui.cs.advprog.beauthentication.controller;
+
+import id.ac.ui.cs.advprog.beauthentication.enums.Speciality;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+final class SpecialityParameter {
+
+    private SpecialityParameter() {
+    }
+
+    static Speciality parse(String speciality) {
+        String decodedSpeciality = decode(speciality);
+
+        if (decodedSpeciality == null || decodedSpeciality.trim().isEmpty()) {
+            return null;
+        }
+
+        try {
+            return Speciality.fromDisplayName(decodedSpeciality.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid speciality: " + decodedSpeciality
+                    + ". Valid specialities are: " + Arrays.toString(Speciality.values()), e);
+        }
+    }
+
+    private static String decode(String speciality) {
+        if (speciality == null || speciality.trim().isEmpty()) {
+            return speciality;
+        }
+
+        try {
+            String decodedSpeciality = URLDecoder.decode(speciality, StandardCharsets.UTF_8);
+
+            if (decodedSpeciality.contains("%")) {
+                decodedSpeciality = URLDecoder.decode(decodedSpeciality, StandardCharsets.UTF_8);
+            }
+            return decodedSpeciality;
+        } catch (IllegalArgumentException e) {
+            return speciality;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package id.ac.ui.cs.advprog.beauthentication.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchTokenVerificationDto {
+
+    @NotEmpty(message = "Tokens are required")
+    @Size(max = 100, message = "At most 100 tokens can be verified per request")
+    private List<@NotBlank(message = "Token must not be blank") String> tokens;
+}
@@ -0,0 +1,17 @@
+package id.ac.ui.cs.advprog.beauthentication.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CaregiverPageDto {
+    private List<CaregiverPublicDto> items;
+    private String nextCursor;
+}
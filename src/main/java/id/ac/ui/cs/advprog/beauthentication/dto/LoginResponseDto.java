@@ -13,8 +13,10 @@ import lombok.NoArgsConstructor;
 public class LoginResponseDto {
 
     private String accessToken;
+    private String refreshToken;
     private String email;
     private String name;
     private Role role;
     private Long expiresIn;
+    private Long refreshExpiresIn;
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package id.ac.ui.cs.advprog.beauthentication.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RefreshTokenDto {
+
+    @NotBlank(message = "Refresh token is required")
+    private String refreshToken;
+}
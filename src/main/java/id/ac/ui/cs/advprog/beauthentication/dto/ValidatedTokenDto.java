@@ -0,0 +1,20 @@
+package id.ac.ui.cs.advprog.beauthentication.dto;
+
+import id.ac.ui.cs.advprog.beauthentication.enums.Role;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Date;
+
+@Value
+@Builder
+public class ValidatedTokenDto {
+    String tokenId;
+    String subject;
+    String userId;
+    String name;
+    Role role;
+    Integer tokenVersion;
+    String sessionId;
+    Date expiration;
+}
@@ -0,0 +1,8 @@
+package id.ac.ui.cs.advprog.beauthentication.exception;
+
+public class InvalidRefreshTokenException extends RuntimeException {
+
+    public InvalidRefreshTokenException(String message) {
+        super(message, null, false, false);
+    }
+}
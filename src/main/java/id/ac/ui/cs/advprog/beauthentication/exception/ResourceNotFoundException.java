@@ -0,0 +1,8 @@
+package id.ac.ui.cs.advprog.beauthentication.exception;
+
+public class ResourceNotFoundException extends RuntimeException {
+
+    public ResourceNotFoundException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,141 @@
+package id.ac.ui.cs.advprog.beauthentication.filter;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class AdaptiveConcurrencyLimiter implements SmartLifecycle {
+
+    private static final String ADJUST_THREAD_NAME = "data-concurrency-adjust";
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final int minimumLimit;
+    private final int maximumLimit;
+    private final double latencyTargetMillis;
+    private final double backoffRatio;
+    private final long adjustIntervalMillis;
+    private final Timer dataQueryTimer;
+    private volatile int limit;
+    private volatile boolean saturated;
+    private long lastCount;
+    private double lastTotalTimeMillis;
+    private ScheduledExecutorService adjustScheduler;
+
+    public AdaptiveConcurrencyLimiter(
+            @Value("${data.concurrency.initial-limit:20}") int initialLimit,
+            @Value("${data.concurrency.min-limit:2}") int minimumLimit,
+            @Value("${data.concurrency.max-limit:200}") int maximumLimit,
+            @Value("${data.concurrency.latency-target:250}") double latencyTargetMillis,
+            @Value("${data.concurrency.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${data.concurrency.adjust-interval:1000}") long adjustIntervalMillis,
+            Timer dataQueryTimer,
+            MeterRegistry meterRegistry) {
+        if (minimumLimit <= 0 || minimumLimit > maximumLimit || backoffRatio <= 0 || backoffRatio >= 1
+                || adjustIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Invalid adaptive concurrency limit configuration");
+        }
+
+        this.limit = Math.max(minimumLimit, Math.min(maximumLimit, initialLimit));
+        this.minimumLimit = minimumLimit;
+        this.maximumLimit = maximumLimit;
+        this.latencyTargetMillis = latencyTargetMillis;
+        this.backoffRatio = backoffRatio;
+        this.adjustIntervalMillis = adjustIntervalMillis;
+        this.dataQueryTimer = dataQueryTimer;
+        this.lastCount = dataQueryTimer.count();
+        this.lastTotalTimeMillis = dataQueryTimer.totalTime(TimeUnit.MILLISECONDS);
+
+        Gauge.builder("data.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit for data requests")
+                .register(meterRegistry);
+        Gauge.builder("data.concurrency.in-flight", this, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Number of data requests currently being served")
+                .register(meterRegistry);
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                saturated = true;
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                if (current + 1 >= limit) {
+                    saturated = true;
+                }
+                return true;
+            }
+        }
+    }
+
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (adjustScheduler != null) {
+            return;
+        }
+
+        adjustScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, ADJUST_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        adjustScheduler.scheduleWithFixedDelay(
+                this::adjust, adjustIntervalMillis, adjustIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (adjustScheduler != null) {
+            adjustScheduler.shutdownNow();
+            adjustScheduler = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return adjustScheduler != null;
+    }
+
+    public synchronized void adjust() {
+        long count = dataQueryTimer.count();
+        double totalTimeMillis = dataQueryTimer.totalTime(TimeUnit.MILLISECONDS);
+        long completed = count - lastCount;
+        double elapsedMillis = totalTimeMillis - lastTotalTimeMillis;
+        lastCount = count;
+        lastTotalTimeMillis = totalTimeMillis;
+
+        boolean wasSaturated = saturated;
+        saturated = false;
+        if (completed <= 0) {
+            return;
+        }
+
+        if (elapsedMillis / completed > latencyTargetMillis) {
+            limit = Math.max(minimumLimit, (int) (limit * backoffRatio));
+        } else if (wasSaturated) {
+            limit = Math.min(maximumLimit, limit + 1);
+        }
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
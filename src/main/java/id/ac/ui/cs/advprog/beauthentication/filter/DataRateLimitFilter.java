@@ -0,0 +1,136 @@
+package id.ac.ui.cs.advprog.beauthentication.filter;
+
+import id.ac.ui.cs.advprog.beauthentication.exception.ServiceOverloadedException;
+import id.ac.ui.cs.advprog.beauthentication.exception.TooManyRequestsException;
+import id.ac.ui.cs.advprog.beauthentication.security.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.Counter;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+public class DataRateLimitFilter extends OncePerRequestFilter {
+
+    private static final String DATA_PATH = "/api/data";
+    private static final String LIST_ROUTE = "list";
+    private static final Set<String> ROUTES = Set.of("search", "export", "caregiver", "pacilian");
+    private static final Set<String> EXPENSIVE_ROUTES = Set.of("search", "export");
+    private static final String RATE_LIMITED_MESSAGE = "Too many requests. Please slow down.";
+    private static final String OVERLOADED_MESSAGE = "Service is busy. Please try again later.";
+
+    private final TokenBucketRateLimiter routeLimiter;
+    private final TokenBucketRateLimiter expensiveRouteLimiter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final HandlerExceptionResolver handlerExceptionResolver;
+    private final long overloadRetryAfterSeconds;
+    private final Counter dataRequestAdmittedCounter;
+    private final Counter dataRequestRateLimitedCounter;
+    private final Counter dataRequestShedCounter;
+
+    public DataRateLimitFilter(
+            TokenBucketRateLimiter routeLimiter,
+            TokenBucketRateLimiter expensiveRouteLimiter,
+            AdaptiveConcurrencyLimiter concurrencyLimiter,
+            HandlerExceptionResolver handlerExceptionResolver,
+            long overloadRetryAfterSeconds,
+            Counter dataRequestAdmittedCounter,
+            Counter dataRequestRateLimitedCounter,
+            Counter dataRequestShedCounter) {
+        this.routeLimiter = routeLimiter;
+        this.expensiveRouteLimiter = expensiveRouteLimiter;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.handlerExceptionResolver = handlerExceptionResolver;
+        this.overloadRetryAfterSeconds = overloadRetryAfterSeconds;
+        this.dataRequestAdmittedCounter = dataRequestAdmittedCounter;
+        this.dataRequestRateLimitedCounter = dataRequestRateLimitedCounter;
+        this.dataRequestShedCounter = dataRequestShedCounter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return HttpMethod.OPTIONS.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String route = routeOf(request);
+        TokenBucketRateLimiter limiter = EXPENSIVE_ROUTES.contains(route) ? expensiveRouteLimiter : routeLimiter;
+        long retryAfterMillis = limiter.tryAcquire(route + ' ' + request.getRemoteAddr());
+
+        if (retryAfterMillis > 0) {
+            dataRequestRateLimitedCounter.increment();
+            long retryAfterSeconds = Math.max(1, TimeUnit.MILLISECONDS.toSeconds(retryAfterMillis + 999));
+            reject(request, response, new TooManyRequestsException(RATE_LIMITED_MESSAGE, retryAfterSeconds));
+            return;
+        }
+
+        if (!concurrencyLimiter.tryAcquire()) {
+            dataRequestShedCounter.increment();
+            reject(request, response, new ServiceOverloadedException(OVERLOADED_MESSAGE, overloadRetryAfterSeconds));
+            return;
+        }
+
+        dataRequestAdmittedCounter.increment();
+        boolean asyncStarted = false;
+        try {
+            filterChain.doFilter(request, response);
+            asyncStarted = request.isAsyncStarted();
+            if (asyncStarted) {
+                request.getAsyncContext().addListener(new ReleaseOnComplete(concurrencyLimiter));
+            }
+        } finally {
+            if (!asyncStarted) {
+                concurrencyLimiter.release();
+            }
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, RuntimeException exception) {
+        handlerExceptionResolver.resolveException(request, response, null, exception);
+    }
+
+    private static String routeOf(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!path.startsWith(DATA_PATH + "/")) {
+            return LIST_ROUTE;
+        }
+
+        String remainder = path.substring(DATA_PATH.length() + 1);
+        int separator = remainder.indexOf('/');
+        String route = separator < 0 ? remainder : remainder.substring(0, separator);
+        return ROUTES.contains(route) ? route : LIST_ROUTE;
+    }
+
+    private record ReleaseOnComplete(AdaptiveConcurrencyLimiter concurrencyLimiter) implements AsyncListener {
+        @Override
+        public void onComplete(AsyncEvent event) {
+            concurrencyLimiter.release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package id.ac.ui.cs.advprog.beauthentication.filter;
 
+import id.ac.ui.cs.advprog.beauthentication.dto.ValidatedTokenDto;
+import id.ac.ui.cs.advprog.beauthentication.model.User;
+import id.ac.ui.cs.advprog.beauthentication.security.TokenRevocationList;
+import id.ac.ui.cs.advprog.beauthentication.security.TokenVersionRegistry;
 import id.ac.ui.cs.advprog.beauthentication.service.JwtService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -24,10 +29,22 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
+    private static final String VERIFY_PATH = "/api/auth/verify";
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
     private final HandlerExceptionResolver handlerExceptionResolver;
+    private final TokenRevocationList tokenRevocationList;
+    private final TokenVersionRegistry tokenVersionRegistry;
+
+    @Value("${security.jwt.trust-claims:false}")
+    private boolean trustClaims;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return path.equals(VERIFY_PATH) || path.startsWith(VERIFY_PATH + "/");
+    }
 
     @Override
     protected void doFilterInternal(
@@ -43,12 +60,16 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
         try {
             final String jwt = authHeader.substring(BEARER_PREFIX.length());
-            final String userEmail = jwtService.extractUsername(jwt);
+            final ValidatedTokenDto validatedToken = jwtService.parseToken(jwt);
+            final String userEmail = validatedToken.getSubject();
 
-            if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+            if (userEmail != null
+                    && SecurityContextHolder.getContext().getAuthentication() == null
+                    && !isRevoked(validatedToken)) {
+                UserDetails userDetails = resolveUserDetails(validatedToken);
 
-                if (jwtService.isTokenValid(jwt, userDetails)) {
+                if (jwtService.isTokenValid(validatedToken, userDetails)
+                        && isCurrentVersion(validatedToken, userDetails)) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails,
                             null,
@@ -64,4 +85,33 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             handlerExceptionResolver.resolveException(request, response, null, exception);
         }
     }
+
+    private boolean isRevoked(ValidatedTokenDto validatedToken) {
+        return tokenRevocationList.isRevoked(validatedToken.getTokenId(), validatedToken.getExpiration());
+    }
+
+    private boolean isCurrentVersion(ValidatedTokenDto validatedToken, UserDetails userDetails) {
+        if (!usesTrustedClaims(validatedToken) && userDetails instanceof User user) {
+            return tokenVersionRegistry.matches(user, validatedToken.getTokenVersion());
+        }
+
+        return tokenVersionRegistry.isCurrent(validatedToken.getUserId(), validatedToken.getTokenVersion());
+    }
+
+    private boolean usesTrustedClaims(ValidatedTokenDto validatedToken) {
+        return trustClaims && validatedToken.getUserId() != null && validatedToken.getRole() != null;
+    }
+
+    private UserDetails resolveUserDetails(ValidatedTokenDto validatedToken) {
+        if (usesTrustedClaims(validatedToken)) {
+            return User.builder()
+                    .id(validatedToken.getUserId())
+                    .email(validatedToken.getSubject())
+                    .name(validatedToken.getName())
+                    .role(validatedToken.getRole())
+                    .build();
+        }
+
+        return userDetailsService.loadUserByUsername(validatedToken.getSubject());
+    }
 }
\ No newline at end of file
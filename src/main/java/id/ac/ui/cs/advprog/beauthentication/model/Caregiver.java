@@ -15,7 +15,7 @@ import lombok.experimental.SuperBuilder;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "caregivers")
+@Table(name = "caregivers", indexes = @Index(name = "idx_caregivers_speciality", columnList = "speciality"))
 public class Caregiver extends User {
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -6,10 +6,12 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -20,14 +22,20 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = User.EMAIL_CONSTRAINT, columnNames = "email"),
+        @UniqueConstraint(name = User.NIK_CONSTRAINT, columnNames = "nik")
+})
 @Inheritance(strategy = InheritanceType.JOINED)
 public class User implements UserDetails {
+    public static final String EMAIL_CONSTRAINT = "uk_users_email";
+    public static final String NIK_CONSTRAINT = "uk_users_nik";
+
     @Id
     @Column(nullable = false, updatable = false, unique = true, length = 36)
     private String id;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
 
     @Column(nullable = false)
@@ -36,7 +44,7 @@ public class User implements UserDetails {
     @Column(nullable = false)
     private String name;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String nik;
 
     @Column(nullable = false)
@@ -48,6 +56,17 @@ public class User implements UserDetails {
     @Enumerated(EnumType.STRING)
     private Role role;
 
+    @ColumnDefault("0")
+    @Column(name = "token_version", nullable = false, updatable = false)
+    private int tokenVersion;
+
+    @ColumnDefault("0")
+    @Column(name = "failed_login_attempts", nullable = false, updatable = false)
+    private int failedLoginAttempts;
+
+    @Column(name = "locked_until", updatable = false)
+    private Instant lockedUntil;
+
     @PrePersist
     protected void onCreate() {
         if (id == null) {
@@ -75,7 +94,7 @@ public class User implements UserDetails {
 
     @Override
     public boolean isAccountNonLocked() {
-        return true;
+        return lockedUntil == null || !lockedUntil.isAfter(Instant.now());
     }
 
     @Override
@@ -1,9 +1,29 @@
 package id.ac.ui.cs.advprog.beauthentication.repository;
 
+import id.ac.ui.cs.advprog.beauthentication.enums.Speciality;
 import id.ac.ui.cs.advprog.beauthentication.model.Caregiver;
+import id.ac.ui.cs.advprog.beauthentication.repository.projection.CaregiverPublicView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
 public interface CaregiverRepository extends JpaRepository<Caregiver, String> {
-}
\ No newline at end of file
+    Optional<CaregiverPublicView> findProjectedById(String id);
+    List<CaregiverPublicView> findAllProjectedBy();
+    List<CaregiverPublicView> findByNameContainingIgnoreCase(String name);
+    List<CaregiverPublicView> findBySpeciality(Speciality speciality);
+    List<CaregiverPublicView> findByNameContainingIgnoreCaseAndSpeciality(String name, Speciality speciality);
+    List<CaregiverPublicView> findAllByOrderByIdAsc(Limit limit);
+    List<CaregiverPublicView> findByIdGreaterThanOrderByIdAsc(String id, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<CaregiverPublicView> streamAllBy();
+}
@@ -1,9 +1,13 @@
 package id.ac.ui.cs.advprog.beauthentication.repository;
 
 import id.ac.ui.cs.advprog.beauthentication.model.Pacilian;
+import id.ac.ui.cs.advprog.beauthentication.repository.projection.PacilianPublicView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface PacilianRepository extends JpaRepository<Pacilian, String> {
-}
\ No newline at end of file
+    Optional<PacilianPublicView> findProjectedById(String id);
+}
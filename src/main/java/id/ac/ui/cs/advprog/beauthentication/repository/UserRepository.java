@@ -2,13 +2,44 @@ package id.ac.ui.cs.advprog.beauthentication.repository;
 
 import id.ac.ui.cs.advprog.beauthentication.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, String> {
     Optional<User> findByEmail(String email);
-    boolean existsByEmail(String email);
-    boolean existsByNik(String nik);
-}
\ No newline at end of file
+    List<User> findByEmailIn(Collection<String> emails);
+
+    @Query("SELECT u.id FROM User u")
+    Stream<String> streamAllIds();
+
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :id")
+    Optional<Integer> findTokenVersionById(@Param("id") String id);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.tokenVersion = u.tokenVersion + 1 WHERE u.id = :id")
+    int incrementTokenVersion(@Param("id") String id);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.password = :password WHERE u.email = :email")
+    int updatePasswordByEmail(@Param("email") String email, @Param("password") String password);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.failedLoginAttempts = :failedLoginAttempts, u.lockedUntil = :lockedUntil WHERE u.email = :email")
+    int updateLoginFailures(
+            @Param("email") String email,
+            @Param("failedLoginAttempts") int failedLoginAttempts,
+            @Param("lockedUntil") Instant lockedUntil);
+}
@@ -0,0 +1,12 @@
+package id.ac.ui.cs.advprog.beauthentication.repository.projection;
+
+import id.ac.ui.cs.advprog.beauthentication.enums.Speciality;
+
+public interface CaregiverPublicView {
+    String getId();
+    String getName();
+    String getEmail();
+    Speciality getSpeciality();
+    String getWorkAddress();
+    String getPhoneNumber();
+}
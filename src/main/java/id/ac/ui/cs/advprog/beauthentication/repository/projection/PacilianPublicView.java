@@ -0,0 +1,8 @@
+package id.ac.ui.cs.advprog.beauthentication.repository.projection;
+
+public interface PacilianPublicView {
+    String getId();
+    String getName();
+    String getEmail();
+    String getPhoneNumber();
+}
@@ -0,0 +1,190 @@
+package id.ac.ui.cs.advprog.beauthentication.security;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.SignatureAlgorithm;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.PublicKey;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+@Slf4j
+@Component
+public class JwtKeyProvider {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final SignatureAlgorithm defaultAlgorithm;
+    private final ResourceLoader resourceLoader;
+    private final String keyRingLocation;
+    private volatile KeyRing keyRing;
+    private long keyRingLastModified;
+    private long keyRingContentLength;
+
+    public JwtKeyProvider(
+            @Value("${security.jwt.algorithm:HS256}") String algorithm,
+            @Value("${security.jwt.key-id:}") String keyId,
+            @Value("${security.jwt.private-key-location:}") String privateKeyLocation,
+            @Value("${security.jwt.public-key-location:}") String publicKeyLocation,
+            @Value("${security.jwt.keyring.location:}") String keyRingLocation,
+            ResourceLoader resourceLoader) {
+        this.defaultAlgorithm = JwtSigningKey.parseAlgorithm(algorithm);
+        this.resourceLoader = resourceLoader;
+        this.keyRingLocation = keyRingLocation;
+
+        if (!keyRingLocation.isBlank()) {
+            reloadKeyRing();
+        } else if (defaultAlgorithm.isHmac()) {
+            this.keyRing = KeyRing.EMPTY;
+        } else if (privateKeyLocation.isBlank() || publicKeyLocation.isBlank()) {
+            JwtSigningKey generated = JwtSigningKey.generate(defaultAlgorithm, keyId);
+            this.keyRing = KeyRing.of(generated, List.of(generated));
+            log.warn("No {} key pair configured, generated ephemeral signing key {}; tokens will not survive a restart",
+                    defaultAlgorithm.getValue(), generated.keyId());
+        } else {
+            JwtSigningKey configured = JwtSigningKey.fromPem(defaultAlgorithm, keyId,
+                    read(resourceLoader.getResource(privateKeyLocation)),
+                    read(resourceLoader.getResource(publicKeyLocation)));
+            this.keyRing = KeyRing.of(configured, List.of(configured));
+        }
+    }
+
+    public boolean isAsymmetric() {
+        return keyRing.current() != null;
+    }
+
+    public JwtSigningKey currentKey() {
+        return keyRing.current();
+    }
+
+    public Optional<PublicKey> findVerificationKey(String keyId) {
+        if (keyId == null) {
+            return Optional.empty();
+        }
+
+        for (JwtSigningKey key : keyRing.verificationKeys()) {
+            if (keyId.equals(key.keyId())) {
+                return Optional.of(key.publicKey());
+            }
+        }
+        return Optional.empty();
+    }
+
+    public Map<String, Object> jwks() {
+        return keyRing.jwks();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${security.jwt.keyring.reload-interval:30000}",
+            initialDelayString = "${security.jwt.keyring.reload-interval:30000}")
+    public synchronized void reloadIfChanged() {
+        if (keyRingLocation.isBlank()) {
+            return;
+        }
+
+        try {
+            Resource resource = resourceLoader.getResource(keyRingLocation);
+            if (resource.lastModified() == keyRingLastModified && resource.contentLength() == keyRingContentLength) {
+                return;
+            }
+            reloadKeyRing();
+        } catch (RuntimeException | IOException e) {
+            log.error("Could not reload JWT key ring from {}, keeping signing key {}: {}",
+                    keyRingLocation, keyRing.current().keyId(), e.getMessage());
+        }
+    }
+
+    private synchronized void reloadKeyRing() {
+        Resource resource = resourceLoader.getResource(keyRingLocation);
+        try {
+            long lastModified = resource.lastModified();
+            long contentLength = resource.contentLength();
+            KeyRing loaded = parseKeyRing(read(resource));
+
+            this.keyRing = loaded;
+            this.keyRingLastModified = lastModified;
+            this.keyRingContentLength = contentLength;
+            log.info("Loaded JWT key ring with signing key {} and {} verification keys",
+                    loaded.current().keyId(), loaded.verificationKeys().length);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to read JWT key ring from " + resource.getDescription(), e);
+        }
+    }
+
+    private KeyRing parseKeyRing(String content) throws IOException {
+        KeyRingFile file = OBJECT_MAPPER.readValue(content, KeyRingFile.class);
+        if (file.keys() == null || file.keys().isEmpty()) {
+            throw new IllegalStateException("JWT key ring has no keys");
+        }
+
+        List<JwtSigningKey> keys = new ArrayList<>(file.keys().size());
+        Set<String> keyIds = new HashSet<>();
+        JwtSigningKey current = null;
+        for (KeyRingEntry entry : file.keys()) {
+            if (entry.publicKey() == null || entry.publicKey().isBlank()) {
+                throw new IllegalStateException("JWT key ring entry " + entry.kid() + " has no public key");
+            }
+
+            SignatureAlgorithm algorithm = entry.alg() == null || entry.alg().isBlank()
+                    ? defaultAlgorithm
+                    : JwtSigningKey.parseAlgorithm(entry.alg());
+            JwtSigningKey key = JwtSigningKey.fromPem(algorithm, entry.kid(), entry.privateKey(), entry.publicKey());
+            if (!keyIds.add(key.keyId())) {
+                throw new IllegalStateException("Duplicate key id in JWT key ring: " + key.keyId());
+            }
+
+            keys.add(key);
+            if (key.keyId().equals(file.current())) {
+                current = key;
+            }
+        }
+
+        if (current == null) {
+            throw new IllegalStateException("JWT key ring has no key with id " + file.current());
+        }
+        if (current.privateKey() == null) {
+            throw new IllegalStateException("Current JWT signing key " + current.keyId() + " has no private key");
+        }
+        return KeyRing.of(current, keys);
+    }
+
+    private static String read(Resource resource) {
+        try {
+            return resource.getContentAsString(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to read JWT key from " + resource.getDescription(), e);
+        }
+    }
+
+    private record KeyRing(JwtSigningKey current, JwtSigningKey[] verificationKeys, Map<String, Object> jwks) {
+        private static final KeyRing EMPTY = new KeyRing(null, new JwtSigningKey[0], Map.of("keys", List.of()));
+
+        private static KeyRing of(JwtSigningKey current, List<JwtSigningKey> keys) {
+            List<JwtSigningKey> ordered = new ArrayList<>(keys.size());
+            ordered.add(current);
+            keys.stream().filter(key -> key != current).forEach(ordered::add);
+
+            List<Map<String, Object>> jwks = ordered.stream().map(JwtSigningKey::toJwk).toList();
+            return new KeyRing(current, ordered.toArray(JwtSigningKey[]::new), Map.of("keys", jwks));
+        }
+    }
+
+    private record KeyRingFile(String current, List<KeyRingEntry> keys) {
+    }
+
+    private record KeyRingEntry(String kid, String alg, String privateKey, String publicKey) {
+    }
+}
@@ -0,0 +1,154 @@
+package id.ac.ui.cs.advprog.beauthentication.security;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public record JwtSigningKey(String keyId, SignatureAlgorithm algorithm, PrivateKey privateKey, PublicKey publicKey) {
+
+    private static final int RSA_KEY_SIZE = 2048;
+    private static final String EC_CURVE = "secp256r1";
+    private static final String JWK_CURVE = "P-256";
+    private static final int EC_COORDINATE_LENGTH = 32;
+
+    public static SignatureAlgorithm parseAlgorithm(String name) {
+        SignatureAlgorithm algorithm = SignatureAlgorithm.forName(name);
+        if (algorithm != SignatureAlgorithm.HS256
+                && algorithm != SignatureAlgorithm.RS256
+                && algorithm != SignatureAlgorithm.ES256) {
+            throw new IllegalArgumentException("Unsupported JWT signing algorithm: " + name);
+        }
+        return algorithm;
+    }
+
+    public static JwtSigningKey generate(SignatureAlgorithm algorithm, String keyId) {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance(keyFactoryAlgorithm(algorithm));
+            if (algorithm.isRsa()) {
+                generator.initialize(RSA_KEY_SIZE);
+            } else {
+                generator.initialize(new ECGenParameterSpec(EC_CURVE));
+            }
+
+            KeyPair keyPair = generator.generateKeyPair();
+            return create(algorithm, keyId, keyPair.getPrivate(), keyPair.getPublic());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to generate " + algorithm.getValue() + " signing key", e);
+        }
+    }
+
+    public static JwtSigningKey fromPem(SignatureAlgorithm algorithm, String keyId, String privateKeyPem, String publicKeyPem) {
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance(keyFactoryAlgorithm(algorithm));
+            PrivateKey privateKey = privateKeyPem == null
+                    ? null
+                    : keyFactory.generatePrivate(new PKCS8EncodedKeySpec(decodePem(privateKeyPem)));
+            PublicKey publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(decodePem(publicKeyPem)));
+            return create(algorithm, keyId, privateKey, publicKey);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("Unable to read " + algorithm.getValue() + " signing key", e);
+        }
+    }
+
+    public Map<String, Object> toJwk() {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kty", algorithm.isRsa() ? "RSA" : "EC");
+        jwk.put("use", "sig");
+        jwk.put("alg", algorithm.getValue());
+        jwk.put("kid", keyId);
+        jwk.putAll(publicParameters(publicKey));
+        return jwk;
+    }
+
+    @Override
+    public String toString() {
+        return "JwtSigningKey[keyId=" + keyId + ", algorithm=" + algorithm.getValue() + "]";
+    }
+
+    private static JwtSigningKey create(SignatureAlgorithm algorithm, String keyId, PrivateKey privateKey, PublicKey publicKey) {
+        if (algorithm.isRsa() && !(publicKey instanceof RSAPublicKey)) {
+            throw new IllegalArgumentException(algorithm.getValue() + " requires an RSA key");
+        }
+        if (algorithm.isEllipticCurve() && !(publicKey instanceof ECPublicKey ecPublicKey
+                && ecPublicKey.getParams().getCurve().getField().getFieldSize() == EC_COORDINATE_LENGTH * 8)) {
+            throw new IllegalArgumentException(algorithm.getValue() + " requires a P-256 key");
+        }
+
+        String resolvedKeyId = keyId == null || keyId.isBlank() ? thumbprint(publicKey) : keyId;
+        return new JwtSigningKey(resolvedKeyId, algorithm, privateKey, publicKey);
+    }
+
+    private static Map<String, Object> publicParameters(PublicKey publicKey) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        if (publicKey instanceof RSAPublicKey rsaPublicKey) {
+            parameters.put("n", base64Url(rsaPublicKey.getModulus(), 0));
+            parameters.put("e", base64Url(rsaPublicKey.getPublicExponent(), 0));
+        } else if (publicKey instanceof ECPublicKey ecPublicKey) {
+            parameters.put("crv", JWK_CURVE);
+            parameters.put("x", base64Url(ecPublicKey.getW().getAffineX(), EC_COORDINATE_LENGTH));
+            parameters.put("y", base64Url(ecPublicKey.getW().getAffineY(), EC_COORDINATE_LENGTH));
+        }
+        return parameters;
+    }
+
+    private static String thumbprint(PublicKey publicKey) {
+        Map<String, Object> parameters = publicParameters(publicKey);
+        String canonical = publicKey instanceof RSAPublicKey
+                ? "{\"e\":\"" + parameters.get("e") + "\",\"kty\":\"RSA\",\"n\":\"" + parameters.get("n") + "\"}"
+                : "{\"crv\":\"" + JWK_CURVE + "\",\"kty\":\"EC\",\"x\":\"" + parameters.get("x")
+                        + "\",\"y\":\"" + parameters.get("y") + "\"}";
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static String keyFactoryAlgorithm(SignatureAlgorithm algorithm) {
+        if (algorithm.isRsa()) {
+            return "RSA";
+        }
+        if (algorithm.isEllipticCurve()) {
+            return "EC";
+        }
+        throw new IllegalArgumentException(algorithm.getValue() + " is not an asymmetric algorithm");
+    }
+
+    private static byte[] decodePem(String pem) {
+        String base64 = pem.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+
+    private static String base64Url(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            byte[] unsigned = new byte[bytes.length - 1];
+            System.arraycopy(bytes, 1, unsigned, 0, unsigned.length);
+            bytes = unsigned;
+        }
+        if (bytes.length < length) {
+            byte[] padded = new byte[length];
+            System.arraycopy(bytes, 0, padded, length - bytes.length, bytes.length);
+            bytes = padded;
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
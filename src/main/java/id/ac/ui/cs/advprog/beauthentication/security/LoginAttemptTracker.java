@@ -0,0 +1,144 @@
+package id.ac.ui.cs.advprog.beauthentication.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import id.ac.ui.cs.advprog.beauthentication.model.User;
+import id.ac.ui.cs.advprog.beauthentication.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Slf4j
+@Component
+public class LoginAttemptTracker {
+
+    private final Cache<String, AttemptState> attempts;
+    private final ConcurrentMap<String, AttemptState> pendingWrites = new ConcurrentHashMap<>();
+    private final UserRepository userRepository;
+    private final Counter accountLockoutCounter;
+    private final int maxFailures;
+    private final Duration lockDuration;
+    private final Clock clock;
+
+    public LoginAttemptTracker(
+            @Value("${security.lockout.max-failures:10}") int maxFailures,
+            @Value("${security.lockout.duration:900000}") long lockDurationMillis,
+            @Value("${security.lockout.max-size:100000}") long maximumSize,
+            UserRepository userRepository,
+            Counter accountLockoutCounter) {
+        this(maxFailures, lockDurationMillis, maximumSize, userRepository, accountLockoutCounter, Clock.systemUTC());
+    }
+
+    LoginAttemptTracker(
+            int maxFailures,
+            long lockDurationMillis,
+            long maximumSize,
+            UserRepository userRepository,
+            Counter accountLockoutCounter,
+            Clock clock) {
+        this.maxFailures = maxFailures;
+        this.lockDuration = Duration.ofMillis(lockDurationMillis);
+        this.userRepository = userRepository;
+        this.accountLockoutCounter = accountLockoutCounter;
+        this.clock = clock;
+        this.attempts = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(lockDuration)
+                .build();
+    }
+
+    public boolean isLocked(String email) {
+        AttemptState state = email == null ? null : attempts.getIfPresent(email);
+        return state != null && state.isLocked(clock.instant());
+    }
+
+    public void recordFailure(String email) {
+        if (email == null) {
+            return;
+        }
+
+        AttemptState state = attempts.get(email, ignored -> new AttemptState());
+        if (state.recordFailure(clock.instant(), maxFailures, lockDuration)) {
+            accountLockoutCounter.increment();
+            pendingWrites.put(email, state);
+        }
+    }
+
+    public void recordSuccess(User user) {
+        String email = user.getEmail();
+        attempts.invalidate(email);
+
+        boolean persisted = user.getFailedLoginAttempts() != 0 || user.getLockedUntil() != null;
+        if (persisted || pendingWrites.containsKey(email)) {
+            pendingWrites.put(email, new AttemptState());
+        }
+    }
+
+    @PreDestroy
+    @Scheduled(
+            initialDelayString = "${security.lockout.flush-interval:5000}",
+            fixedDelayString = "${security.lockout.flush-interval:5000}")
+    public void flush() {
+        Iterator<Map.Entry<String, AttemptState>> iterator = pendingWrites.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, AttemptState> entry = iterator.next();
+            String email = entry.getKey();
+            AttemptState state = entry.getValue();
+            pendingWrites.remove(email, state);
+
+            AttemptState.Snapshot snapshot = state.snapshot();
+            try {
+                userRepository.updateLoginFailures(email, snapshot.failures(), snapshot.lockedUntil());
+            } catch (RuntimeException e) {
+                pendingWrites.putIfAbsent(email, state);
+                log.warn("Could not persist login failures, will retry: {}", e.getMessage());
+                return;
+            }
+        }
+    }
+
+    int pendingWriteCount() {
+        return pendingWrites.size();
+    }
+
+    private static final class AttemptState {
+        private int failures;
+        private Instant lockedUntil;
+
+        synchronized boolean isLocked(Instant now) {
+            return lockedUntil != null && lockedUntil.isAfter(now);
+        }
+
+        synchronized boolean recordFailure(Instant now, int maxFailures, Duration lockDuration) {
+            if (lockedUntil != null && !lockedUntil.isAfter(now)) {
+                failures = 0;
+                lockedUntil = null;
+            }
+
+            failures++;
+            if (failures >= maxFailures && lockedUntil == null) {
+                lockedUntil = now.plus(lockDuration);
+                return true;
+            }
+            return false;
+        }
+
+        synchronized Snapshot snapshot() {
+            return new Snapshot(failures, lockedUntil);
+        }
+
+        private record Snapshot(int failures, Instant lockedUntil) {
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package id.ac.ui.cs.advprog.beauthentication.security;
+
+import id.ac.ui.cs.advprog.beauthentication.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class LoginThrottle {
+
+    private static final String THROTTLED_MESSAGE = "Too many login attempts. Please try again later.";
+
+    private final SlidingWindowRateLimiter emailLimiter;
+    private final SlidingWindowRateLimiter clientLimiter;
+    private final Counter loginThrottledByEmailCounter;
+    private final Counter loginThrottledByClientCounter;
+
+    public LoginThrottle(
+            @Value("${security.login-throttle.email.limit:5}") int emailLimit,
+            @Value("${security.login-throttle.email.window:60000}") long emailWindowMillis,
+            @Value("${security.login-throttle.client.limit:30}") int clientLimit,
+            @Value("${security.login-throttle.client.window:60000}") long clientWindowMillis,
+            @Value("${security.login-throttle.buckets:10}") int bucketCount,
+            @Value("${security.login-throttle.max-keys:100000}") long maximumKeys,
+            Counter loginThrottledByEmailCounter,
+            Counter loginThrottledByClientCounter) {
+        this.emailLimiter = new SlidingWindowRateLimiter(emailLimit, emailWindowMillis, bucketCount, maximumKeys);
+        this.clientLimiter = new SlidingWindowRateLimiter(clientLimit, clientWindowMillis, bucketCount, maximumKeys);
+        this.loginThrottledByEmailCounter = loginThrottledByEmailCounter;
+        this.loginThrottledByClientCounter = loginThrottledByClientCounter;
+    }
+
+    public void checkAllowed(String email, String clientAddress) {
+        if (clientAddress != null) {
+            long retryAfterMillis = clientLimiter.tryAcquire(clientAddress);
+            if (retryAfterMillis > 0) {
+                loginThrottledByClientCounter.increment();
+                throw throttled(retryAfterMillis);
+            }
+        }
+
+        if (email != null) {
+            long retryAfterMillis = emailLimiter.tryAcquire(email.trim().toLowerCase(Locale.ROOT));
+            if (retryAfterMillis > 0) {
+                loginThrottledByEmailCounter.increment();
+                throw throttled(retryAfterMillis);
+            }
+        }
+    }
+
+    private static TooManyRequestsException throttled(long retryAfterMillis) {
+        long retryAfterSeconds = Math.max(1, TimeUnit.MILLISECONDS.toSeconds(retryAfterMillis + 999));
+        return new TooManyRequestsException(THROTTLED_MESSAGE, retryAfterSeconds);
+    }
+}
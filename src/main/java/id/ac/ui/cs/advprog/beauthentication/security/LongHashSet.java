@@ -0,0 +1,88 @@
+package id.ac.ui.cs.advprog.beauthentication.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+final class LongHashSet {
+
+    private static final long EMPTY = 0L;
+    private static final long ZERO_KEY = 1L;
+
+    private volatile AtomicLongArray table;
+    private int size;
+
+    LongHashSet(int expectedSize) {
+        this.table = new AtomicLongArray(tableSizeFor(expectedSize));
+    }
+
+    boolean contains(long value) {
+        long key = normalize(value);
+        AtomicLongArray current = table;
+        int mask = current.length() - 1;
+
+        for (int index = spread(key) & mask; ; index = (index + 1) & mask) {
+            long slot = current.get(index);
+            if (slot == key) {
+                return true;
+            }
+            if (slot == EMPTY) {
+                return false;
+            }
+        }
+    }
+
+    synchronized boolean add(long value) {
+        long key = normalize(value);
+        if ((size + 1) * 2 > table.length()) {
+            table = rehash(table, table.length() * 2);
+        }
+
+        if (!insert(table, key)) {
+            return false;
+        }
+        size++;
+        return true;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    private static AtomicLongArray rehash(AtomicLongArray current, int capacity) {
+        AtomicLongArray resized = new AtomicLongArray(capacity);
+        for (int i = 0; i < current.length(); i++) {
+            long key = current.get(i);
+            if (key != EMPTY) {
+                insert(resized, key);
+            }
+        }
+        return resized;
+    }
+
+    private static boolean insert(AtomicLongArray target, long key) {
+        int mask = target.length() - 1;
+
+        for (int index = spread(key) & mask; ; index = (index + 1) & mask) {
+            long slot = target.get(index);
+            if (slot == key) {
+                return false;
+            }
+            if (slot == EMPTY) {
+                target.set(index, key);
+                return true;
+            }
+        }
+    }
+
+    private static long normalize(long value) {
+        return value == EMPTY ? ZERO_KEY : value;
+    }
+
+    private static int spread(long key) {
+        return (int) (key ^ (key >>> 32));
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(2, expectedSize) * 2 - 1) << 1;
+        return Math.max(4, capacity);
+    }
+}
@@ -0,0 +1,47 @@
+package id.ac.ui.cs.advprog.beauthentication.security;
+
+import id.ac.ui.cs.advprog.beauthentication.exception.ServiceOverloadedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@Slf4j
+public class PasswordUpgradingAuthenticationProvider extends DaoAuthenticationProvider {
+
+    private final PasswordEncoder passwordEncoder;
+    private final UserDetailsPasswordService userDetailsPasswordService;
+
+    public PasswordUpgradingAuthenticationProvider(
+            UserDetailsService userDetailsService,
+            PasswordEncoder passwordEncoder,
+            UserDetailsPasswordService userDetailsPasswordService) {
+        super(passwordEncoder);
+        setUserDetailsService(userDetailsService);
+        this.passwordEncoder = passwordEncoder;
+        this.userDetailsPasswordService = userDetailsPasswordService;
+    }
+
+    @Override
+    protected Authentication createSuccessAuthentication(
+            Object principal, Authentication authentication, UserDetails user) {
+        return super.createSuccessAuthentication(principal, authentication, upgradePassword(authentication, user));
+    }
+
+    private UserDetails upgradePassword(Authentication authentication, UserDetails user) {
+        if (!passwordEncoder.upgradeEncoding(user.getPassword())) {
+            return user;
+        }
+
+        try {
+            String newPassword = passwordEncoder.encode(authentication.getCredentials().toString());
+            return userDetailsPasswordService.updatePassword(user, newPassword);
+        } catch (ServiceOverloadedException e) {
+            log.debug("Skipped password hash upgrade for {}: hash pool is saturated", user.getUsername());
+            return user;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package id.ac.ui.cs.advprog.beauthentication.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+public final class SlidingWindowRateLimiter {
+
+    private static final int SLOT_SHIFT = 20;
+    private static final long COUNT_MASK = (1L << SLOT_SHIFT) - 1;
+
+    private final Cache<String, AtomicLongArray> windows;
+    private final int limit;
+    private final int bucketCount;
+    private final long bucketMillis;
+    private final LongSupplier clock;
+
+    public SlidingWindowRateLimiter(int limit, long windowMillis, int bucketCount, long maximumKeys) {
+        this(limit, windowMillis, bucketCount, maximumKeys, System::currentTimeMillis);
+    }
+
+    SlidingWindowRateLimiter(int limit, long windowMillis, int bucketCount, long maximumKeys, LongSupplier clock) {
+        if (limit <= 0 || bucketCount <= 0 || windowMillis < bucketCount) {
+            throw new IllegalArgumentException("Rate limit, window and bucket count must be positive");
+        }
+
+        this.limit = limit;
+        this.bucketCount = bucketCount;
+        this.bucketMillis = windowMillis / bucketCount;
+        this.clock = clock;
+        this.windows = Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(Duration.ofMillis(windowMillis))
+                .build();
+    }
+
+    public long tryAcquire(String key) {
+        long now = clock.getAsLong();
+        long slot = now / bucketMillis;
+        int index = (int) (slot % bucketCount);
+        AtomicLongArray buckets = windows.get(key, ignored -> new AtomicLongArray(bucketCount));
+
+        long reserved = increment(buckets, index, slot);
+
+        long total = reserved < 0 ? COUNT_MASK : reserved;
+        long oldestSlot = slot;
+        for (int i = 0; i < bucketCount; i++) {
+            if (i == index) {
+                continue;
+            }
+            long bucket = buckets.get(i);
+            long bucketSlot = bucket >>> SLOT_SHIFT;
+            long count = bucket & COUNT_MASK;
+            if (count > 0 && bucketSlot > slot - bucketCount && bucketSlot <= slot) {
+                total += count;
+                oldestSlot = Math.min(oldestSlot, bucketSlot);
+            }
+        }
+
+        if (total > limit) {
+            if (reserved > 0) {
+                decrement(buckets, index, slot);
+            }
+            return Math.max(1, (oldestSlot + bucketCount) * bucketMillis - now);
+        }
+
+        return 0;
+    }
+
+    public long trackedKeys() {
+        return windows.estimatedSize();
+    }
+
+    private static long increment(AtomicLongArray buckets, int index, long slot) {
+        while (true) {
+            long bucket = buckets.get(index);
+            long bucketSlot = bucket >>> SLOT_SHIFT;
+            long next;
+            if (bucketSlot < slot) {
+                next = (slot << SLOT_SHIFT) | 1;
+            } else if ((bucket & COUNT_MASK) < COUNT_MASK) {
+                next = bucket + 1;
+            } else {
+                return -1;
+            }
+
+            if (buckets.compareAndSet(index, bucket, next)) {
+                return next & COUNT_MASK;
+            }
+        }
+    }
+
+    private static void decrement(AtomicLongArray buckets, int index, long slot) {
+        while (true) {
+            long bucket = buckets.get(index);
+            if (bucket >>> SLOT_SHIFT < slot || (bucket & COUNT_MASK) == 0) {
+                return;
+            }
+
+            if (buckets.compareAndSet(index, bucket, bucket - 1)) {
+                return;
+            }
+        }
+    }
+}
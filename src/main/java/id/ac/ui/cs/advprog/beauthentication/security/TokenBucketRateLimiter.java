@@ -0,0 +1,58 @@
+package id.ac.ui.cs.advprog.beauthentication.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+public final class TokenBucketRateLimiter {
+
+    private final Cache<String, AtomicLong> buckets;
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final LongSupplier nanoClock;
+
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst, long maximumKeys) {
+        this(permitsPerSecond, burst, maximumKeys, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(double permitsPerSecond, int burst, long maximumKeys, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("Rate and burst must be positive");
+        }
+
+        this.emissionIntervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.burstToleranceNanos = emissionIntervalNanos * (burst - 1);
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(Duration.ofNanos(Math.max(TimeUnit.SECONDS.toNanos(1),
+                        burstToleranceNanos + emissionIntervalNanos)))
+                .build();
+    }
+
+    public long tryAcquire(String key) {
+        long now = nanoClock.getAsLong();
+        AtomicLong theoreticalArrival = buckets.get(key, ignored -> new AtomicLong(now));
+
+        while (true) {
+            long current = theoreticalArrival.get();
+            long earliest = current - now > 0 ? current : now;
+            long waitNanos = earliest - burstToleranceNanos - now;
+            if (waitNanos > 0) {
+                return Math.max(1, TimeUnit.NANOSECONDS.toMillis(waitNanos + TimeUnit.MILLISECONDS.toNanos(1) - 1));
+            }
+
+            if (theoreticalArrival.compareAndSet(current, earliest + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    public long trackedKeys() {
+        return buckets.estimatedSize();
+    }
+}
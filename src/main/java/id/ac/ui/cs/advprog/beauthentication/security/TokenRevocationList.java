@@ -0,0 +1,80 @@
+package id.ac.ui.cs.advprog.beauthentication.security;
+
+import io.micrometer.core.instrument.Counter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Component
+public class TokenRevocationList {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final int INITIAL_BUCKET_SIZE = 16;
+
+    private final ConcurrentMap<Long, LongHashSet> buckets = new ConcurrentHashMap<>();
+    private final long bucketMillis;
+    private final Counter tokenRevocationCounter;
+
+    public TokenRevocationList(
+            @Value("${security.jwt.revocation.bucket-size:60000}") long bucketMillis,
+            Counter tokenRevocationCounter) {
+        this.bucketMillis = bucketMillis;
+        this.tokenRevocationCounter = tokenRevocationCounter;
+    }
+
+    public void revoke(String tokenId, Date expiration) {
+        if (tokenId == null || expiration == null || expiration.getTime() <= System.currentTimeMillis()) {
+            return;
+        }
+
+        boolean added = buckets.computeIfAbsent(bucketOf(expiration.getTime()),
+                        bucket -> new LongHashSet(INITIAL_BUCKET_SIZE))
+                .add(hash(tokenId));
+        if (added) {
+            tokenRevocationCounter.increment();
+        }
+    }
+
+    public boolean isRevoked(String tokenId, Date expiration) {
+        if (tokenId == null || expiration == null) {
+            return false;
+        }
+
+        LongHashSet bucket = buckets.get(bucketOf(expiration.getTime()));
+        return bucket != null && bucket.contains(hash(tokenId));
+    }
+
+    public int size() {
+        return buckets.values().stream()
+                .mapToInt(LongHashSet::size)
+                .sum();
+    }
+
+    @Scheduled(
+            initialDelayString = "${security.jwt.revocation.bucket-size:60000}",
+            fixedDelayString = "${security.jwt.revocation.bucket-size:60000}")
+    public void purgeExpired() {
+        long currentBucket = bucketOf(System.currentTimeMillis());
+        buckets.keySet().removeIf(bucket -> bucket < currentBucket);
+    }
+
+    private long bucketOf(long epochMillis) {
+        return epochMillis / bucketMillis;
+    }
+
+    private static long hash(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+}
@@ -0,0 +1,49 @@
+package id.ac.ui.cs.advprog.beauthentication.security;
+
+import id.ac.ui.cs.advprog.beauthentication.cache.TokenVerificationCache;
+import id.ac.ui.cs.advprog.beauthentication.dto.ValidatedTokenDto;
+import id.ac.ui.cs.advprog.beauthentication.service.JwtService;
+import id.ac.ui.cs.advprog.beauthentication.service.RefreshTokenService;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.logout.LogoutHandler;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationLogoutHandler implements LogoutHandler {
+
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtService jwtService;
+    private final TokenRevocationList tokenRevocationList;
+    private final TokenVerificationCache tokenVerificationCache;
+    private final RefreshTokenService refreshTokenService;
+
+    @Override
+    public void logout(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
+        String authHeader = request.getHeader(AUTHORIZATION_HEADER);
+        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
+            return;
+        }
+
+        String token = authHeader.substring(BEARER_PREFIX.length());
+        ValidatedTokenDto validatedToken;
+        try {
+            validatedToken = jwtService.parseToken(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return;
+        }
+
+        tokenRevocationList.revoke(validatedToken.getTokenId(), validatedToken.getExpiration());
+        tokenVerificationCache.invalidate(token);
+
+        if (validatedToken.getSessionId() != null) {
+            refreshTokenService.revokeFamily(validatedToken.getSessionId());
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package id.ac.ui.cs.advprog.beauthentication.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import id.ac.ui.cs.advprog.beauthentication.model.User;
+import id.ac.ui.cs.advprog.beauthentication.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+@Component
+public class TokenVersionRegistry {
+
+    private static final int UNKNOWN_USER = -1;
+    private static final int INITIAL_VERSION = 0;
+
+    private final Cache<String, Integer> versions;
+    private final UserRepository userRepository;
+
+    public TokenVersionRegistry(
+            @Value("${security.jwt.token-version.max-size:10000}") long maximumSize,
+            @Value("${security.jwt.token-version.ttl:30000}") long ttlMillis,
+            UserRepository userRepository,
+            MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, versions, "auth.token.version");
+    }
+
+    public boolean isCurrent(String userId, Integer tokenVersion) {
+        if (userId == null) {
+            return tokenVersion == null;
+        }
+
+        return presentedVersion(tokenVersion) == currentVersion(userId);
+    }
+
+    public boolean matches(User user, Integer tokenVersion) {
+        return presentedVersion(tokenVersion) == user.getTokenVersion();
+    }
+
+    public int currentVersion(String userId) {
+        return versions.get(userId, id -> userRepository.findTokenVersionById(id).orElse(UNKNOWN_USER));
+    }
+
+    public void bump(String userId) {
+        userRepository.incrementTokenVersion(userId);
+        versions.invalidate(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    versions.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    private static int presentedVersion(Integer tokenVersion) {
+        return tokenVersion == null ? INITIAL_VERSION : tokenVersion;
+    }
+}
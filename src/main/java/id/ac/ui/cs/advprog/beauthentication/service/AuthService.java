@@ -3,13 +3,19 @@ package id.ac.ui.cs.advprog.beauthentication.service;
 import id.ac.ui.cs.advprog.beauthentication.dto.*;
 import id.ac.ui.cs.advprog.beauthentication.model.Caregiver;
 import id.ac.ui.cs.advprog.beauthentication.model.Pacilian;
+import org.springframework.security.core.Authentication;
+
+import java.util.List;
 
 public interface AuthService {
     RegisterResponseDto registerPacilian(RegisterPacilianDto registerDto);
     RegisterResponseDto registerCaregiver(RegisterCaregiverDto registerDto);
     LoginResponseDto login(LoginDto loginDto);
+    LoginResponseDto refresh(RefreshTokenDto refreshTokenDto);
     void logout();
+    void logoutEverywhere(Authentication authentication);
     TokenVerificationResponseDto verifyToken(String token);
+    List<TokenVerificationResponseDto> verifyTokens(List<String> tokens);
     Caregiver getCaregiverByID(String id);
     Pacilian getPacilianByID(String id);
 
@@ -1,5 +1,7 @@
 package id.ac.ui.cs.advprog.beauthentication.service;
 
+import id.ac.ui.cs.advprog.beauthentication.cache.NegativeLookupCache;
+import id.ac.ui.cs.advprog.beauthentication.cache.TokenVerificationCache;
 import id.ac.ui.cs.advprog.beauthentication.dto.*;
 import id.ac.ui.cs.advprog.beauthentication.enums.Role;
 import id.ac.ui.cs.advprog.beauthentication.enums.Speciality;
@@ -7,13 +9,18 @@ import id.ac.ui.cs.advprog.beauthentication.model.*;
 import id.ac.ui.cs.advprog.beauthentication.repository.CaregiverRepository;
 import id.ac.ui.cs.advprog.beauthentication.repository.PacilianRepository;
 import id.ac.ui.cs.advprog.beauthentication.repository.UserRepository;
+import id.ac.ui.cs.advprog.beauthentication.security.LoginAttemptTracker;
+import id.ac.ui.cs.advprog.beauthentication.security.TokenRevocationList;
+import id.ac.ui.cs.advprog.beauthentication.security.TokenVersionRegistry;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.LockedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -21,6 +28,17 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class AuthServiceImpl implements AuthService {
@@ -30,10 +48,18 @@ public class AuthServiceImpl implements AuthService {
     private final CaregiverRepository caregiverRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
+    private final RefreshTokenService refreshTokenService;
     private final AuthenticationManager authenticationManager;
+    private final TokenVerificationCache tokenVerificationCache;
+    private final TokenRevocationList tokenRevocationList;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final NegativeLookupCache negativeLookupCache;
+    private final LoginAttemptTracker loginAttemptTracker;
     
     private final Counter loginSuccessCounter;
     private final Counter loginFailureCounter;
+    private final Counter refreshSuccessCounter;
+    private final Counter refreshFailureCounter;
     private final Counter registerPacilianCounter;
     private final Counter registerCaregiverCounter;
     private final Counter registerPacilianFailureCounter;
@@ -41,15 +67,16 @@ public class AuthServiceImpl implements AuthService {
     private final Timer tokenVerificationTimer;
     
     private static final String REGISTRATION_SUCCESS_MESSAGE = "Registration successful. Please login.";
+    private static final String ACCOUNT_LOCKED_MESSAGE = "Account is temporarily locked due to too many failed login attempts";
+    private static final Pattern EMAIL_COLUMN = Pattern.compile("\\(email[\\s)]", Pattern.CASE_INSENSITIVE);
+    private static final Pattern NIK_COLUMN = Pattern.compile("\\(nik[\\s)]", Pattern.CASE_INSENSITIVE);
 
     @Override
-    @Transactional
     public RegisterResponseDto registerPacilian(RegisterPacilianDto registerDto) {
         try {
-            validateRegistration(registerDto.getEmail(), registerDto.getNik());
-
             Pacilian pacilian = createPacilianEntity(registerDto);
-            Pacilian savedPacilian = pacilianRepository.save(pacilian);
+            Pacilian savedPacilian = saveRegistration(pacilian, pacilianRepository::saveAndFlush);
+            negativeLookupCache.recordCreated(savedPacilian.getId());
 
             registerPacilianCounter.increment();
 
@@ -61,14 +88,12 @@ public class AuthServiceImpl implements AuthService {
     }
 
     @Override
-    @Transactional
     public RegisterResponseDto registerCaregiver(RegisterCaregiverDto registerDto) {
         try {
-            validateRegistration(registerDto.getEmail(), registerDto.getNik());
-
             Caregiver caregiver = createCaregiverEntity(registerDto);
             
-            Caregiver savedCaregiver = caregiverRepository.save(caregiver);
+            Caregiver savedCaregiver = saveRegistration(caregiver, caregiverRepository::saveAndFlush);
+            negativeLookupCache.recordCreated(savedCaregiver.getId());
 
             registerCaregiverCounter.increment();
 
@@ -82,14 +107,21 @@ public class AuthServiceImpl implements AuthService {
     @Override
     public LoginResponseDto login(LoginDto loginDto) {
         try {
+            if (loginAttemptTracker.isLocked(loginDto.getEmail())) {
+                throw new LockedException(ACCOUNT_LOCKED_MESSAGE);
+            }
+
             Authentication authentication = authenticateUser(loginDto);
             User user = (User) authentication.getPrincipal();
-            String jwtToken = jwtService.generateToken(user);
+            loginAttemptTracker.recordSuccess(user);
+            RefreshTokenService.IssuedRefreshToken refreshToken = refreshTokenService.issue(user);
+            String jwtToken = jwtService.generateToken(user, refreshToken.familyId());
 
             loginSuccessCounter.increment();
 
-            return buildLoginResponse(user, jwtToken);
+            return buildLoginResponse(user, jwtToken, refreshToken.refreshToken());
         } catch (BadCredentialsException | UsernameNotFoundException e) {
+            loginAttemptTracker.recordFailure(loginDto.getEmail());
             loginFailureCounter.increment();
             throw e;
         } catch (Exception e) {
@@ -98,22 +130,52 @@ public class AuthServiceImpl implements AuthService {
         }
     }
 
+    @Override
+    public LoginResponseDto refresh(RefreshTokenDto refreshTokenDto) {
+        try {
+            RefreshTokenService.RotatedRefreshToken rotated = refreshTokenService.rotate(refreshTokenDto.getRefreshToken());
+            String jwtToken = jwtService.generateToken(rotated.user(), rotated.familyId());
+
+            refreshSuccessCounter.increment();
+
+            return buildLoginResponse(rotated.user(), jwtToken, rotated.refreshToken());
+        } catch (Exception e) {
+            refreshFailureCounter.increment();
+            throw e;
+        }
+    }
+
     @Override
     public void logout() {
         SecurityContextHolder.clearContext();
     }
 
+    @Override
+    public void logoutEverywhere(Authentication authentication) {
+        User user = (User) authentication.getPrincipal();
+        tokenVersionRegistry.bump(user.getId());
+        refreshTokenService.revokeAll(user.getId());
+        SecurityContextHolder.clearContext();
+    }
+
     @Override
     public TokenVerificationResponseDto verifyToken(String token) {
         try {
             return tokenVerificationTimer.recordCallable(() -> {
+                Optional<TokenVerificationResponseDto> cachedResponse = tokenVerificationCache.get(token, this::isActive);
+                if (cachedResponse.isPresent()) {
+                    return cachedResponse.get();
+                }
+
                 try {
-                    String userEmail = jwtService.extractUsername(token);
-                    if (userEmail == null) {
+                    ValidatedTokenDto validatedToken = jwtService.parseToken(token);
+                    if (validatedToken.getSubject() == null || isRevoked(validatedToken)) {
                         return buildInvalidTokenResponse();
                     }
 
-                    return verifyTokenForUser(token, userEmail);
+                    TokenVerificationResponseDto response = verifyTokenForUser(validatedToken);
+                    tokenVerificationCache.put(token, validatedToken, response);
+                    return response;
                 } catch (Exception e) {
                     return buildInvalidTokenResponse();
                 }
@@ -122,15 +184,101 @@ public class AuthServiceImpl implements AuthService {
             return buildInvalidTokenResponse();
         }
     }
+
+    @Override
+    public List<TokenVerificationResponseDto> verifyTokens(List<String> tokens) {
+        try {
+            return tokenVerificationTimer.recordCallable(() -> {
+                List<TokenVerificationResponseDto> responses = new ArrayList<>(tokens.size());
+                Map<Integer, ValidatedTokenDto> pendingTokens = new HashMap<>();
+
+                for (int i = 0; i < tokens.size(); i++) {
+                    Optional<TokenVerificationResponseDto> cachedResponse = tokenVerificationCache.get(tokens.get(i), this::isActive);
+                    ValidatedTokenDto validatedToken = cachedResponse.isPresent() ? null : parseTokenOrNull(tokens.get(i));
+
+                    if (validatedToken != null) {
+                        pendingTokens.put(i, validatedToken);
+                    }
+                    responses.add(cachedResponse.orElseGet(this::buildInvalidTokenResponse));
+                }
+
+                Map<String, User> usersByEmail = findUsersByEmail(pendingTokens.values());
+                pendingTokens.forEach((index, validatedToken) -> {
+                    User user = usersByEmail.get(validatedToken.getSubject());
+                    if (user != null && isValidFor(validatedToken, user)) {
+                        TokenVerificationResponseDto response = buildValidTokenResponse(validatedToken, user);
+                        tokenVerificationCache.put(tokens.get(index), validatedToken, response);
+                        responses.set(index, response);
+                    }
+                });
+
+                return responses;
+            });
+        } catch (Exception e) {
+            return tokens.stream()
+                    .map(token -> buildInvalidTokenResponse())
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private ValidatedTokenDto parseTokenOrNull(String token) {
+        try {
+            ValidatedTokenDto validatedToken = jwtService.parseToken(token);
+            return validatedToken.getSubject() != null && !isRevoked(validatedToken) ? validatedToken : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private boolean isActive(ValidatedTokenDto validatedToken) {
+        return !isRevoked(validatedToken)
+                && tokenVersionRegistry.isCurrent(validatedToken.getUserId(), validatedToken.getTokenVersion());
+    }
+
+    private boolean isRevoked(ValidatedTokenDto validatedToken) {
+        return tokenRevocationList.isRevoked(validatedToken.getTokenId(), validatedToken.getExpiration());
+    }
+
+    private boolean isValidFor(ValidatedTokenDto validatedToken, User user) {
+        return jwtService.isTokenValid(validatedToken, user)
+                && tokenVersionRegistry.matches(user, validatedToken.getTokenVersion());
+    }
+
+    private Map<String, User> findUsersByEmail(Collection<ValidatedTokenDto> validatedTokens) {
+        Set<String> emails = validatedTokens.stream()
+                .map(ValidatedTokenDto::getSubject)
+                .collect(Collectors.toSet());
+
+        if (emails.isEmpty()) {
+            return Map.of();
+        }
+
+        return userRepository.findByEmailIn(emails).stream()
+                .collect(Collectors.toMap(User::getEmail, Function.identity()));
+    }
     
-    private void validateRegistration(String email, String nik) {
-        if (userRepository.existsByEmail(email)) {
-            throw new IllegalArgumentException("Email already exists");
+    private <T extends User> T saveRegistration(T user, Function<T, T> save) {
+        try {
+            return save.apply(user);
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicateIdentity(e);
         }
+    }
+
+    private RuntimeException translateDuplicateIdentity(DataIntegrityViolationException e) {
+        String constraintName = e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                ? violation.getConstraintName().toLowerCase()
+                : "";
+        String message = String.valueOf(e.getMostSpecificCause().getMessage());
 
-        if (userRepository.existsByNik(nik)) {
-            throw new IllegalArgumentException("NIK already exists");
+        if (constraintName.contains(User.EMAIL_CONSTRAINT) || EMAIL_COLUMN.matcher(message).find()) {
+            return new IllegalArgumentException("Email already exists");
+        }
+        if (constraintName.contains(User.NIK_CONSTRAINT) || NIK_COLUMN.matcher(message).find()) {
+            return new IllegalArgumentException("NIK already exists");
         }
+        return e;
     }
     
     private Pacilian createPacilianEntity(RegisterPacilianDto registerDto) {
@@ -180,23 +328,25 @@ public class AuthServiceImpl implements AuthService {
         return authentication;
     }
     
-    private LoginResponseDto buildLoginResponse(User user, String jwtToken) {
+    private LoginResponseDto buildLoginResponse(User user, String jwtToken, String refreshToken) {
         return LoginResponseDto.builder()
                 .accessToken(jwtToken)
+                .refreshToken(refreshToken)
                 .email(user.getEmail())
                 .name(user.getName())
                 .role(user.getRole())
                 .expiresIn(jwtService.getExpirationTime())
+                .refreshExpiresIn(refreshTokenService.getExpirationTime())
                 .build();
     }
     
-    private TokenVerificationResponseDto verifyTokenForUser(String token, String userEmail) {
+    private TokenVerificationResponseDto verifyTokenForUser(ValidatedTokenDto validatedToken) {
         try {
-            User user = userRepository.findByEmail(userEmail)
+            User user = userRepository.findByEmail(validatedToken.getSubject())
                     .orElseThrow(() -> new UsernameNotFoundException("User not found"));
 
-            if (jwtService.isTokenValid(token, user)) {
-                return buildValidTokenResponse(token, user);
+            if (isValidFor(validatedToken, user)) {
+                return buildValidTokenResponse(validatedToken, user);
             }
             
             return buildInvalidTokenResponse();
@@ -205,13 +355,13 @@ public class AuthServiceImpl implements AuthService {
         }
     }
     
-    private TokenVerificationResponseDto buildValidTokenResponse(String token, User user) {
+    private TokenVerificationResponseDto buildValidTokenResponse(ValidatedTokenDto validatedToken, User user) {
         return TokenVerificationResponseDto.builder()
                 .valid(true)
                 .userId(user.getId())
                 .email(user.getEmail())
                 .role(user.getRole())
-                .expiresIn(jwtService.getRemainingTime(token))
+                .expiresIn(jwtService.getRemainingTime(validatedToken))
                 .build();
     }
     
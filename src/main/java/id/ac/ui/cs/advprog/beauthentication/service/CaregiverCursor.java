@@ -0,0 +1,35 @@
+package id.ac.ui.cs.advprog.beauthentication.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+final class CaregiverCursor {
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    private CaregiverCursor() {
+    }
+
+    static int pageSize(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1");
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    static String encode(String id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -1,31 +1,49 @@
 package id.ac.ui.cs.advprog.beauthentication.service;
 
+import id.ac.ui.cs.advprog.beauthentication.cache.NegativeLookupCache;
+import id.ac.ui.cs.advprog.beauthentication.cache.PublicProfileCache;
+import id.ac.ui.cs.advprog.beauthentication.dto.CaregiverPageDto;
 import id.ac.ui.cs.advprog.beauthentication.dto.CaregiverPublicDto;
 import id.ac.ui.cs.advprog.beauthentication.dto.PacilianPublicDto;
+import id.ac.ui.cs.advprog.beauthentication.enums.Role;
 import id.ac.ui.cs.advprog.beauthentication.enums.Speciality;
-import id.ac.ui.cs.advprog.beauthentication.model.Caregiver;
-import id.ac.ui.cs.advprog.beauthentication.model.Pacilian;
+import id.ac.ui.cs.advprog.beauthentication.exception.ResourceNotFoundException;
 import id.ac.ui.cs.advprog.beauthentication.repository.CaregiverRepository;
 import id.ac.ui.cs.advprog.beauthentication.repository.PacilianRepository;
+import id.ac.ui.cs.advprog.beauthentication.repository.projection.CaregiverPublicView;
+import id.ac.ui.cs.advprog.beauthentication.repository.projection.PacilianPublicView;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class DataService {
+    private static final byte NEWLINE = '\n';
+
     private final PacilianRepository pacilianRepository;
     private final CaregiverRepository caregiverRepository;
+    private final ObjectMapper objectMapper;
+    private final PublicProfileCache publicProfileCache;
+    private final NegativeLookupCache negativeLookupCache;
     
     private final Counter dataRequestCounter;
     private final Counter caregiverSearchCounter;
     private final Counter caregiverViewCounter;
     private final Counter pacilianViewCounter;
     private final Timer dataQueryTimer;
+    private final Timer dataExportTimer;
     
     private final Counter dataRequestFailureCounter;
     private final Counter caregiverNotFoundCounter;
@@ -36,7 +54,7 @@ public class DataService {
             return dataQueryTimer.recordCallable(() -> {
                 dataRequestCounter.increment();
                 
-                return caregiverRepository.findAll()
+                return caregiverRepository.findAllProjectedBy()
                         .stream()
                         .map(this::convertToPublicDtoCaregiver)
                         .collect(Collectors.toList());
@@ -47,16 +65,64 @@ public class DataService {
         }
     }
 
+    public CaregiverPageDto getCaregiverPage(int limit, String cursor) {
+        int pageSize = CaregiverCursor.pageSize(limit);
+        String lastSeenId = CaregiverCursor.decode(cursor);
+
+        try {
+            return dataQueryTimer.recordCallable(() -> {
+                dataRequestCounter.increment();
+
+                Limit fetchLimit = Limit.of(pageSize + 1);
+                List<CaregiverPublicView> caregivers = lastSeenId == null
+                        ? caregiverRepository.findAllByOrderByIdAsc(fetchLimit)
+                        : caregiverRepository.findByIdGreaterThanOrderByIdAsc(lastSeenId, fetchLimit);
+
+                boolean hasNextPage = caregivers.size() > pageSize;
+                List<CaregiverPublicView> page = hasNextPage ? caregivers.subList(0, pageSize) : caregivers;
+
+                return CaregiverPageDto.builder()
+                        .items(page.stream()
+                                .map(this::convertToPublicDtoCaregiver)
+                                .collect(Collectors.toList()))
+                        .nextCursor(hasNextPage ? CaregiverCursor.encode(page.get(page.size() - 1).getId()) : null)
+                        .build();
+            });
+        } catch (Exception e) {
+            dataRequestFailureCounter.increment();
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportCaregivers(OutputStream outputStream) throws IOException {
+        Timer.Sample sample = Timer.start();
+        dataRequestCounter.increment();
+
+        try (Stream<CaregiverPublicView> caregivers = caregiverRepository.streamAllBy()) {
+            Iterator<CaregiverPublicView> iterator = caregivers.iterator();
+            while (iterator.hasNext()) {
+                outputStream.write(objectMapper.writeValueAsBytes(convertToPublicDtoCaregiver(iterator.next())));
+                outputStream.write(NEWLINE);
+            }
+            outputStream.flush();
+        } catch (IOException | RuntimeException e) {
+            dataRequestFailureCounter.increment();
+            throw e;
+        } finally {
+            sample.stop(dataExportTimer);
+        }
+    }
+
     public List<CaregiverPublicDto> searchCaregivers(String name, Speciality speciality) {
         try {
             return dataQueryTimer.recordCallable(() -> {
                 caregiverSearchCounter.increment();
                 dataRequestCounter.increment();
 
-                List<Caregiver> caregivers = caregiverRepository.findAll();
+                List<CaregiverPublicView> caregivers = findCaregivers(name, speciality);
 
                 return caregivers.stream()
-                        .filter(caregiver -> matchesSearchCriteria(caregiver, name, speciality))
                         .map(this::convertToPublicDtoCaregiver)
                         .collect(Collectors.toList());
             });
@@ -71,17 +137,15 @@ public class DataService {
             return dataQueryTimer.recordCallable(() -> {
                 caregiverViewCounter.increment();
                 dataRequestCounter.increment();
-                
-                Caregiver caregiver = caregiverRepository.findById(id)
-                        .orElseThrow(() -> {
-                            caregiverNotFoundCounter.increment();
-                            return new IllegalArgumentException("Caregiver not found with id: " + id);
-                        });
-                
-                return convertToPublicDtoCaregiver(caregiver);
+
+                if (negativeLookupCache.isKnownMissing(Role.CAREGIVER, id)) {
+                    throw caregiverNotFound(id);
+                }
+
+                return publicProfileCache.getCaregiver(id, this::loadCaregiver);
             });
-        } catch (IllegalArgumentException e) {
-            throw new RuntimeException(e);
+        } catch (ResourceNotFoundException e) {
+            throw e;
         } catch (Exception e) {
             dataRequestFailureCounter.increment();
             throw new RuntimeException(e);
@@ -93,34 +157,66 @@ public class DataService {
             return dataQueryTimer.recordCallable(() -> {
                 pacilianViewCounter.increment();
                 dataRequestCounter.increment();
-                
-                Pacilian pacilian = pacilianRepository.findById(id)
-                        .orElseThrow(() -> {
-                            pacilianNotFoundCounter.increment();
-                            return new IllegalArgumentException("Pacilian not found with id: " + id);
-                        });
-                
-                return convertToPublicDtoPacilian(pacilian);
+
+                if (negativeLookupCache.isKnownMissing(Role.PACILIAN, id)) {
+                    throw pacilianNotFound(id);
+                }
+
+                return publicProfileCache.getPacilian(id, this::loadPacilian);
             });
-        } catch (IllegalArgumentException e) {
-            throw new RuntimeException(e);
+        } catch (ResourceNotFoundException e) {
+            throw e;
         } catch (Exception e) {
             dataRequestFailureCounter.increment();
             throw new RuntimeException(e);
         }
     }
 
-    private boolean matchesSearchCriteria(Caregiver caregiver, String name, Speciality speciality) {
-        boolean nameMatches = name == null || name.trim().isEmpty() || 
-                caregiver.getName().toLowerCase().contains(name.toLowerCase());
-        
-        boolean specialityMatches = speciality == null || 
-                caregiver.getSpeciality().equals(speciality);
-        
-        return nameMatches && specialityMatches;
+    private CaregiverPublicDto loadCaregiver(String id) {
+        CaregiverPublicView caregiver = caregiverRepository.findProjectedById(id)
+                .orElseThrow(() -> {
+                    negativeLookupCache.recordMissing(Role.CAREGIVER, id);
+                    return caregiverNotFound(id);
+                });
+
+        return convertToPublicDtoCaregiver(caregiver);
+    }
+
+    private PacilianPublicDto loadPacilian(String id) {
+        PacilianPublicView pacilian = pacilianRepository.findProjectedById(id)
+                .orElseThrow(() -> {
+                    negativeLookupCache.recordMissing(Role.PACILIAN, id);
+                    return pacilianNotFound(id);
+                });
+
+        return convertToPublicDtoPacilian(pacilian);
+    }
+
+    private ResourceNotFoundException caregiverNotFound(String id) {
+        caregiverNotFoundCounter.increment();
+        return new ResourceNotFoundException("Caregiver not found with id: " + id);
+    }
+
+    private ResourceNotFoundException pacilianNotFound(String id) {
+        pacilianNotFoundCounter.increment();
+        return new ResourceNotFoundException("Pacilian not found with id: " + id);
+    }
+
+    private List<CaregiverPublicView> findCaregivers(String name, Speciality speciality) {
+        boolean hasName = name != null && !name.trim().isEmpty();
+
+        if (hasName && speciality != null) {
+            return caregiverRepository.findByNameContainingIgnoreCaseAndSpeciality(name, speciality);
+        } else if (hasName) {
+            return caregiverRepository.findByNameContainingIgnoreCase(name);
+        } else if (speciality != null) {
+            return caregiverRepository.findBySpeciality(speciality);
+        } else {
+            return caregiverRepository.findAllProjectedBy();
+        }
     }
 
-    private CaregiverPublicDto convertToPublicDtoCaregiver(Caregiver caregiver) {
+    private CaregiverPublicDto convertToPublicDtoCaregiver(CaregiverPublicView caregiver) {
         return CaregiverPublicDto.builder()
                 .id(caregiver.getId())
                 .name(caregiver.getName())
@@ -131,7 +227,7 @@ public class DataService {
                 .build();
     }
 
-    private PacilianPublicDto convertToPublicDtoPacilian(Pacilian pacilian) {
+    private PacilianPublicDto convertToPublicDtoPacilian(PacilianPublicView pacilian) {
         return PacilianPublicDto.builder()
                 .id(pacilian.getId())
                 .name(pacilian.getName())
@@ -1,5 +1,6 @@
 package id.ac.ui.cs.advprog.beauthentication.service;
 
+import id.ac.ui.cs.advprog.beauthentication.dto.ValidatedTokenDto;
 import io.jsonwebtoken.Claims;
 import org.springframework.security.core.userdetails.UserDetails;
 
@@ -8,10 +9,14 @@ import java.util.function.Function;
 
 public interface JwtService {
     String extractUsername(String token);
+    ValidatedTokenDto parseToken(String token);
     <T> T extractClaim(String token, Function<Claims, T> claimsResolver);
     String generateToken(UserDetails userDetails);
+    String generateToken(UserDetails userDetails, String sessionId);
     String generateToken(Map<String, Object> extraClaims, UserDetails userDetails);
     boolean isTokenValid(String token, UserDetails userDetails);
+    boolean isTokenValid(ValidatedTokenDto validatedToken, UserDetails userDetails);
     long getExpirationTime();
     long getRemainingTime(String token);
+    long getRemainingTime(ValidatedTokenDto validatedToken);
 }
\ No newline at end of file
@@ -1,12 +1,22 @@
 package id.ac.ui.cs.advprog.beauthentication.service;
 
+import id.ac.ui.cs.advprog.beauthentication.dto.ValidatedTokenDto;
+import id.ac.ui.cs.advprog.beauthentication.enums.Role;
 import id.ac.ui.cs.advprog.beauthentication.model.User;
+import id.ac.ui.cs.advprog.beauthentication.security.JwtKeyProvider;
+import id.ac.ui.cs.advprog.beauthentication.security.JwtSigningKey;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
@@ -15,6 +25,7 @@ import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Service
@@ -26,11 +37,36 @@ public class JwtServiceImpl implements JwtService {
     @Value("${security.jwt.expiration-time}")
     private long jwtExpirationTime;
 
+    @Value("${security.jwt.accept-legacy-hmac:true}")
+    private boolean acceptLegacyHmac = true;
+
+    @Autowired(required = false)
+    private JwtKeyProvider jwtKeyProvider;
+
+    private volatile SigningMaterial signingMaterial;
+
     @Override
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
 
+    @Override
+    public ValidatedTokenDto parseToken(String token) {
+        final Claims claims = extractAllClaims(token);
+        String role = claims.get("role", String.class);
+
+        return ValidatedTokenDto.builder()
+                .tokenId(claims.getId())
+                .subject(claims.getSubject())
+                .userId(claims.get("id", String.class))
+                .name(claims.get("name", String.class))
+                .role(Role.contains(role) ? Role.valueOf(role) : null)
+                .tokenVersion(claims.get("tokenVersion", Integer.class))
+                .sessionId(claims.get("sid", String.class))
+                .expiration(claims.getExpiration())
+                .build();
+    }
+
     @Override
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
         final Claims claims = extractAllClaims(token);
@@ -42,6 +78,13 @@ public class JwtServiceImpl implements JwtService {
         return generateToken(createUserClaims(userDetails), userDetails);
     }
 
+    @Override
+    public String generateToken(UserDetails userDetails, String sessionId) {
+        Map<String, Object> claims = createUserClaims(userDetails);
+        claims.put("sid", sessionId);
+        return generateToken(claims, userDetails);
+    }
+
     @Override
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
         return buildToken(extraClaims, userDetails, jwtExpirationTime);
@@ -57,6 +100,13 @@ public class JwtServiceImpl implements JwtService {
         }
     }
 
+    @Override
+    public boolean isTokenValid(ValidatedTokenDto validatedToken, UserDetails userDetails) {
+        return validatedToken.getSubject() != null
+                && validatedToken.getSubject().equals(userDetails.getUsername())
+                && getRemainingTime(validatedToken) > 0;
+    }
+
     @Override
     public long getExpirationTime() {
         return jwtExpirationTime;
@@ -73,6 +123,15 @@ public class JwtServiceImpl implements JwtService {
         }
     }
 
+    @Override
+    public long getRemainingTime(ValidatedTokenDto validatedToken) {
+        if (validatedToken.getExpiration() == null) {
+            return 0;
+        }
+        long remainingTime = validatedToken.getExpiration().getTime() - System.currentTimeMillis();
+        return Math.max(0, remainingTime);
+    }
+
     private Map<String, Object> createUserClaims(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
         
@@ -81,6 +140,7 @@ public class JwtServiceImpl implements JwtService {
             claims.put("id", user.getId());
             claims.put("name", user.getName());
             claims.put("role", user.getRole().getValue());
+            claims.put("tokenVersion", user.getTokenVersion());
         }
         
         return claims;
@@ -92,13 +152,22 @@ public class JwtServiceImpl implements JwtService {
             long expiration) {
         Date now = new Date(System.currentTimeMillis());
         Date expiryDate = new Date(now.getTime() + expiration);
+        SigningMaterial material = getSigningMaterial();
         
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .setClaims(extraClaims)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(now)
-                .setExpiration(expiryDate)
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .setExpiration(expiryDate);
+
+        if (material.signingKey() == null) {
+            return builder.signWith(material.key(), SignatureAlgorithm.HS256).compact();
+        }
+
+        return builder
+                .setHeaderParam(JwsHeader.KEY_ID, material.signingKey().keyId())
+                .signWith(material.signingKey().privateKey(), material.signingKey().algorithm())
                 .compact();
     }
 
@@ -107,15 +176,48 @@ public class JwtServiceImpl implements JwtService {
     }
 
     private Claims extractAllClaims(String token) throws ExpiredJwtException {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
+        return getSigningMaterial().parser()
                 .parseClaimsJws(token)
                 .getBody();
     }
 
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private SigningMaterial getSigningMaterial() {
+        SigningMaterial current = signingMaterial;
+        JwtSigningKey signingKey = jwtKeyProvider == null ? null : jwtKeyProvider.currentKey();
+        if (current == null || !current.secretKey().equals(secretKey) || current.signingKey() != signingKey) {
+            current = createSigningMaterial(secretKey, signingKey);
+            signingMaterial = current;
+        }
+        return current;
+    }
+
+    private SigningMaterial createSigningMaterial(String encodedSecretKey, JwtSigningKey signingKey) {
+        Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(encodedSecretKey));
+        JwtParser parser = signingKey == null
+                ? Jwts.parserBuilder().setSigningKey(key).build()
+                : Jwts.parserBuilder().setSigningKeyResolver(new KeyIdResolver(key)).build();
+        return new SigningMaterial(encodedSecretKey, key, signingKey, parser);
+    }
+
+    private record SigningMaterial(String secretKey, Key key, JwtSigningKey signingKey, JwtParser parser) {
+    }
+
+    private final class KeyIdResolver extends SigningKeyResolverAdapter {
+        private final Key legacyKey;
+
+        private KeyIdResolver(Key legacyKey) {
+            this.legacyKey = legacyKey;
+        }
+
+        @Override
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            String keyId = header.getKeyId();
+            if (keyId == null && acceptLegacyHmac && SignatureAlgorithm.HS256.getValue().equals(header.getAlgorithm())) {
+                return legacyKey;
+            }
+
+            return jwtKeyProvider.findVerificationKey(keyId)
+                    .orElseThrow(() -> new SignatureException("Unknown signing key: " + keyId));
+        }
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package id.ac.ui.cs.advprog.beauthentication.service;
 
+import id.ac.ui.cs.advprog.beauthentication.cache.PublicProfileCache;
 import id.ac.ui.cs.advprog.beauthentication.dto.PasswordChangeDto;
 import id.ac.ui.cs.advprog.beauthentication.dto.UpdateProfileDto;
 import id.ac.ui.cs.advprog.beauthentication.dto.UserProfileDto;
@@ -11,13 +12,16 @@ import id.ac.ui.cs.advprog.beauthentication.model.User;
 import id.ac.ui.cs.advprog.beauthentication.repository.CaregiverRepository;
 import id.ac.ui.cs.advprog.beauthentication.repository.PacilianRepository;
 import id.ac.ui.cs.advprog.beauthentication.repository.UserRepository;
+import id.ac.ui.cs.advprog.beauthentication.security.TokenVersionRegistry;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
@@ -27,6 +31,10 @@ public class ProfileServiceImpl implements ProfileService {
     private final PacilianRepository pacilianRepository;
     private final CaregiverRepository caregiverRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PublicProfileCache publicProfileCache;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final RefreshTokenService refreshTokenService;
+    private final TransactionTemplate transactionTemplate;
     
     private final Counter profileViewCounter;
     private final Counter profileUpdateSuccessCounter;
@@ -64,7 +72,7 @@ public class ProfileServiceImpl implements ProfileService {
         Timer.Sample sample = Timer.start();
         
         try {
-            User user = (User) authentication.getPrincipal();
+            User user = loadFullUser(authentication);
 
             if (updateProfileDto.getName() != null && !updateProfileDto.getName().isEmpty()) {
                 user.setName(updateProfileDto.getName());
@@ -112,6 +120,8 @@ public class ProfileServiceImpl implements ProfileService {
                 result = buildUserProfileDto(user);
             }
 
+            publicProfileCache.evict(user.getId());
+
             profileUpdateSuccessCounter.increment();
             sample.stop(profileUpdateTimer);
             
@@ -125,10 +135,9 @@ public class ProfileServiceImpl implements ProfileService {
     }
 
     @Override
-    @Transactional
     public void changePassword(PasswordChangeDto passwordChangeDto, Authentication authentication) {
         try {
-            User user = (User) authentication.getPrincipal();
+            User user = loadFullUser(authentication);
 
             if (!passwordEncoder.matches(passwordChangeDto.getCurrentPassword(), user.getPassword())) {
                 passwordChangeFailureCounter.increment();
@@ -140,8 +149,14 @@ public class ProfileServiceImpl implements ProfileService {
                 throw new IllegalArgumentException("New password and confirm password do not match");
             }
 
-            user.setPassword(passwordEncoder.encode(passwordChangeDto.getNewPassword()));
-            userRepository.save(user);
+            String encodedPassword = passwordEncoder.encode(passwordChangeDto.getNewPassword());
+
+            transactionTemplate.executeWithoutResult(status -> {
+                userRepository.updatePasswordByEmail(user.getEmail(), encodedPassword);
+                tokenVersionRegistry.bump(user.getId());
+                refreshTokenService.revokeAll(user.getId());
+            });
+            user.setPassword(encodedPassword);
             
             passwordChangeSuccessCounter.increment();
             
@@ -153,6 +168,17 @@ public class ProfileServiceImpl implements ProfileService {
         }
     }
 
+    private User loadFullUser(Authentication authentication) {
+        User user = (User) authentication.getPrincipal();
+
+        if (user.getPassword() != null) {
+            return user;
+        }
+
+        return userRepository.findById(user.getId())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+    }
+
     private UserProfileDto buildUserProfileDto(Caregiver caregiver) {
         return UserProfileDto.builder()
                 .id(caregiver.getId())
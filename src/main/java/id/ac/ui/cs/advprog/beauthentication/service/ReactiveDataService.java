@@ -0,0 +1,242 @@
+package id.ac.ui.cs.advprog.beauthentication.service;
+
+import id.ac.ui.cs.advprog.beauthentication.cache.NegativeLookupCache;
+import id.ac.ui.cs.advprog.beauthentication.cache.PublicProfileCache;
+import id.ac.ui.cs.advprog.beauthentication.dto.CaregiverPageDto;
+import id.ac.ui.cs.advprog.beauthentication.dto.CaregiverPublicDto;
+import id.ac.ui.cs.advprog.beauthentication.dto.PacilianPublicDto;
+import id.ac.ui.cs.advprog.beauthentication.enums.Role;
+import id.ac.ui.cs.advprog.beauthentication.enums.Speciality;
+import id.ac.ui.cs.advprog.beauthentication.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Service
+@Profile("reactive-data")
+@RequiredArgsConstructor
+public class ReactiveDataService {
+    private static final String CAREGIVER_SELECT = "SELECT u.id, u.name, u.email, c.speciality, c.work_address, "
+            + "u.phone_number FROM users u JOIN caregivers c ON c.id = u.id";
+    private static final String PACILIAN_SELECT = "SELECT u.id, u.name, u.email, u.phone_number "
+            + "FROM users u JOIN pacilians p ON p.id = u.id";
+    private static final String NAME_FILTER = "upper(u.name) LIKE upper(:name) ESCAPE '\\'";
+    private static final String SPECIALITY_FILTER = "c.speciality = :speciality";
+
+    private final DatabaseClient databaseClient;
+    private final PublicProfileCache publicProfileCache;
+    private final NegativeLookupCache negativeLookupCache;
+
+    private final Counter dataRequestCounter;
+    private final Counter caregiverSearchCounter;
+    private final Counter caregiverViewCounter;
+    private final Counter pacilianViewCounter;
+    private final Timer dataQueryTimer;
+    private final Timer dataExportTimer;
+
+    private final Counter dataRequestFailureCounter;
+    private final Counter caregiverNotFoundCounter;
+    private final Counter pacilianNotFoundCounter;
+
+    public Mono<List<CaregiverPublicDto>> getAllActiveCaregivers() {
+        return timed(Mono.defer(() -> {
+            dataRequestCounter.increment();
+
+            return databaseClient.sql(CAREGIVER_SELECT)
+                    .map(this::readCaregiver)
+                    .all()
+                    .collectList();
+        }));
+    }
+
+    public Mono<CaregiverPageDto> getCaregiverPage(int limit, String cursor) {
+        int pageSize = CaregiverCursor.pageSize(limit);
+        String lastSeenId = CaregiverCursor.decode(cursor);
+
+        return timed(Mono.defer(() -> {
+            dataRequestCounter.increment();
+
+            DatabaseClient.GenericExecuteSpec spec = lastSeenId == null
+                    ? databaseClient.sql(CAREGIVER_SELECT + " ORDER BY u.id LIMIT :limit")
+                    : databaseClient.sql(CAREGIVER_SELECT + " WHERE u.id > :lastSeenId ORDER BY u.id LIMIT :limit")
+                            .bind("lastSeenId", lastSeenId);
+
+            return spec.bind("limit", pageSize + 1)
+                    .map(this::readCaregiver)
+                    .all()
+                    .collectList()
+                    .map(caregivers -> {
+                        boolean hasNextPage = caregivers.size() > pageSize;
+                        List<CaregiverPublicDto> page = hasNextPage ? caregivers.subList(0, pageSize) : caregivers;
+
+                        return CaregiverPageDto.builder()
+                                .items(page)
+                                .nextCursor(hasNextPage
+                                        ? CaregiverCursor.encode(page.get(page.size() - 1).getId())
+                                        : null)
+                                .build();
+                    });
+        }));
+    }
+
+    public Flux<CaregiverPublicDto> exportCaregivers() {
+        return Flux.defer(() -> {
+            Timer.Sample sample = Timer.start();
+            dataRequestCounter.increment();
+
+            return databaseClient.sql(CAREGIVER_SELECT)
+                    .map(this::readCaregiver)
+                    .all()
+                    .doOnError(e -> dataRequestFailureCounter.increment())
+                    .doFinally(signal -> sample.stop(dataExportTimer));
+        });
+    }
+
+    public Mono<List<CaregiverPublicDto>> searchCaregivers(String name, Speciality speciality) {
+        return timed(Mono.defer(() -> {
+            caregiverSearchCounter.increment();
+            dataRequestCounter.increment();
+
+            return findCaregivers(name, speciality).collectList();
+        }));
+    }
+
+    public Mono<CaregiverPublicDto> getCaregiverById(String id) {
+        return timed(Mono.defer(() -> {
+            caregiverViewCounter.increment();
+            dataRequestCounter.increment();
+
+            if (negativeLookupCache.isKnownMissing(Role.CAREGIVER, id)) {
+                return Mono.error(caregiverNotFound(id));
+            }
+
+            CaregiverPublicDto cached = publicProfileCache.getCachedCaregiver(id);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+
+            return databaseClient.sql(CAREGIVER_SELECT + " WHERE u.id = :id")
+                    .bind("id", id)
+                    .map(this::readCaregiver)
+                    .one()
+                    .doOnNext(caregiver -> publicProfileCache.putCaregiver(id, caregiver))
+                    .switchIfEmpty(Mono.defer(() -> {
+                        negativeLookupCache.recordMissing(Role.CAREGIVER, id);
+                        return Mono.error(caregiverNotFound(id));
+                    }));
+        }));
+    }
+
+    public Mono<PacilianPublicDto> getPacilianById(String id) {
+        return timed(Mono.defer(() -> {
+            pacilianViewCounter.increment();
+            dataRequestCounter.increment();
+
+            if (negativeLookupCache.isKnownMissing(Role.PACILIAN, id)) {
+                return Mono.error(pacilianNotFound(id));
+            }
+
+            PacilianPublicDto cached = publicProfileCache.getCachedPacilian(id);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+
+            return databaseClient.sql(PACILIAN_SELECT + " WHERE u.id = :id")
+                    .bind("id", id)
+                    .map(this::readPacilian)
+                    .one()
+                    .doOnNext(pacilian -> publicProfileCache.putPacilian(id, pacilian))
+                    .switchIfEmpty(Mono.defer(() -> {
+                        negativeLookupCache.recordMissing(Role.PACILIAN, id);
+                        return Mono.error(pacilianNotFound(id));
+                    }));
+        }));
+    }
+
+    private <T> Mono<T> timed(Mono<T> query) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start();
+
+            return query
+                    .doOnError(e -> {
+                        if (!(e instanceof ResourceNotFoundException)) {
+                            dataRequestFailureCounter.increment();
+                        }
+                    })
+                    .doFinally(signal -> sample.stop(dataQueryTimer));
+        });
+    }
+
+    private Flux<CaregiverPublicDto> findCaregivers(String name, Speciality speciality) {
+        boolean hasName = name != null && !name.trim().isEmpty();
+
+        if (hasName && speciality != null) {
+            return databaseClient.sql(CAREGIVER_SELECT + " WHERE " + NAME_FILTER + " AND " + SPECIALITY_FILTER)
+                    .bind("name", containsPattern(name))
+                    .bind("speciality", speciality.name())
+                    .map(this::readCaregiver)
+                    .all();
+        } else if (hasName) {
+            return databaseClient.sql(CAREGIVER_SELECT + " WHERE " + NAME_FILTER)
+                    .bind("name", containsPattern(name))
+                    .map(this::readCaregiver)
+                    .all();
+        } else if (speciality != null) {
+            return databaseClient.sql(CAREGIVER_SELECT + " WHERE " + SPECIALITY_FILTER)
+                    .bind("speciality", speciality.name())
+                    .map(this::readCaregiver)
+                    .all();
+        } else {
+            return databaseClient.sql(CAREGIVER_SELECT)
+                    .map(this::readCaregiver)
+                    .all();
+        }
+    }
+
+    private ResourceNotFoundException caregiverNotFound(String id) {
+        caregiverNotFoundCounter.increment();
+        return new ResourceNotFoundException("Caregiver not found with id: " + id);
+    }
+
+    private ResourceNotFoundException pacilianNotFound(String id) {
+        pacilianNotFoundCounter.increment();
+        return new ResourceNotFoundException("Pacilian not found with id: " + id);
+    }
+
+    private static String containsPattern(String name) {
+        String escaped = name.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    private CaregiverPublicDto readCaregiver(Readable row) {
+        String speciality = row.get("speciality", String.class);
+
+        return CaregiverPublicDto.builder()
+                .id(row.get("id", String.class))
+                .name(row.get("name", String.class))
+                .email(row.get("email", String.class))
+                .speciality(speciality == null ? null : Speciality.valueOf(speciality))
+                .workAddress(row.get("work_address", String.class))
+                .phoneNumber(row.get("phone_number", String.class))
+                .build();
+    }
+
+    private PacilianPublicDto readPacilian(Readable row) {
+        return PacilianPublicDto.builder()
+                .id(row.get("id", String.class))
+                .name(row.get("name", String.class))
+                .email(row.get("email", String.class))
+                .phoneNumber(row.get("phone_number", String.class))
+                .build();
+    }
+}
@@ -0,0 +1,17 @@
+package id.ac.ui.cs.advprog.beauthentication.service;
+
+import id.ac.ui.cs.advprog.beauthentication.model.User;
+
+public interface RefreshTokenService {
+    IssuedRefreshToken issue(User user);
+    RotatedRefreshToken rotate(String refreshToken);
+    void revokeFamily(String familyId);
+    void revokeAll(String userId);
+    long getExpirationTime();
+
+    record IssuedRefreshToken(String refreshToken, String familyId) {
+    }
+
+    record RotatedRefreshToken(User user, String refreshToken, String familyId) {
+    }
+}
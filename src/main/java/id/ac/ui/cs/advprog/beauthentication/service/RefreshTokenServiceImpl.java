@@ -0,0 +1,122 @@
+package id.ac.ui.cs.advprog.beauthentication.service;
+
+import id.ac.ui.cs.advprog.beauthentication.exception.InvalidRefreshTokenException;
+import id.ac.ui.cs.advprog.beauthentication.model.RefreshToken;
+import id.ac.ui.cs.advprog.beauthentication.model.User;
+import id.ac.ui.cs.advprog.beauthentication.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+@Slf4j
+@Service
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final long refreshExpirationTime;
+    private final Counter refreshTokenReuseCounter;
+
+    public RefreshTokenServiceImpl(
+            RefreshTokenRepository refreshTokenRepository,
+            @Value("${security.jwt.refresh-token.expiration-time:1209600000}") long refreshExpirationTime,
+            Counter refreshTokenReuseCounter) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshExpirationTime = refreshExpirationTime;
+        this.refreshTokenReuseCounter = refreshTokenReuseCounter;
+    }
+
+    @Override
+    @Transactional
+    public IssuedRefreshToken issue(User user) {
+        String familyId = UUID.randomUUID().toString();
+        return new IssuedRefreshToken(issue(user, familyId), familyId);
+    }
+
+    @Override
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public RotatedRefreshToken rotate(String refreshToken) {
+        RefreshToken current = refreshTokenRepository.findByTokenHash(digest(refreshToken))
+                .orElseThrow(() -> new InvalidRefreshTokenException("Invalid refresh token"));
+
+        if (current.isRevoked() || refreshTokenRepository.revokeIfActive(current.getId()) == 0) {
+            refreshTokenRepository.revokeFamily(current.getFamilyId());
+            refreshTokenReuseCounter.increment();
+            log.warn("Refresh token reuse detected, revoked token family {}", current.getFamilyId());
+            throw new InvalidRefreshTokenException("Refresh token has already been used");
+        }
+
+        if (current.isExpired(Instant.now())) {
+            throw new InvalidRefreshTokenException("Refresh token has expired");
+        }
+
+        User user = current.getUser();
+        return new RotatedRefreshToken(user, issue(user, current.getFamilyId()), current.getFamilyId());
+    }
+
+    @Override
+    @Transactional
+    public void revokeFamily(String familyId) {
+        refreshTokenRepository.deleteFamily(familyId);
+    }
+
+    @Override
+    @Transactional
+    public void revokeAll(String userId) {
+        refreshTokenRepository.revokeAllByUserId(userId);
+    }
+
+    @Override
+    public long getExpirationTime() {
+        return refreshExpirationTime;
+    }
+
+    @Scheduled(
+            initialDelayString = "${security.jwt.refresh-token.purge-interval:3600000}",
+            fixedDelayString = "${security.jwt.refresh-token.purge-interval:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        int purged = refreshTokenRepository.deleteExpiredBefore(Instant.now());
+        if (purged > 0) {
+            log.info("Purged {} expired refresh tokens", purged);
+        }
+    }
+
+    private String issue(User user, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(digest(refreshToken))
+                .familyId(familyId)
+                .user(user)
+                .expiresAt(Instant.now().plusMillis(refreshExpirationTime))
+                .build());
+
+        return refreshToken;
+    }
+
+    private static String digest(String refreshToken) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(refreshToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
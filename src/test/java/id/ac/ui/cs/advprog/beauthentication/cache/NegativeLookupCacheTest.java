@@ -0,0 +1,122 @@
+package id.ac.ui.cs.advprog.beauthentication.cache;
+
+import id.ac.ui.cs.advprog.beauthentication.enums.Role;
+import id.ac.ui.cs.advprog.beauthentication.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class NegativeLookupCacheTest {
+
+    private static final String KNOWN_ID = "known-id";
+    private static final String UNKNOWN_ID = "unknown-id";
+
+    private UserRepository userRepository;
+    private Counter hitCounter;
+    private NegativeLookupCache negativeLookupCache;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        hitCounter = new SimpleMeterRegistry().counter("hit");
+        negativeLookupCache = new NegativeLookupCache(userRepository, 100, 30000, 100, 0.01, true, hitCounter);
+    }
+
+    @Nested
+    class FilterTests {
+        @Test
+        void beforeRebuildNothingIsKnownMissing() {
+            assertFalse(negativeLookupCache.isKnownMissing(Role.CAREGIVER, UNKNOWN_ID));
+            assertEquals(0, hitCounter.count());
+        }
+
+        @Test
+        void afterRebuildUnknownIdIsKnownMissing() {
+            rebuildWith(KNOWN_ID);
+
+            assertFalse(negativeLookupCache.isKnownMissing(Role.CAREGIVER, KNOWN_ID));
+            assertTrue(negativeLookupCache.isKnownMissing(Role.CAREGIVER, UNKNOWN_ID));
+            assertEquals(1, hitCounter.count());
+        }
+
+        @Test
+        void recordCreatedAddsIdToFilter() {
+            rebuildWith(KNOWN_ID);
+
+            negativeLookupCache.recordCreated(UNKNOWN_ID);
+
+            assertFalse(negativeLookupCache.isKnownMissing(Role.PACILIAN, UNKNOWN_ID));
+        }
+
+        @Test
+        void failedRebuildKeepsPreviousFilter() {
+            rebuildWith(KNOWN_ID);
+            when(userRepository.streamAllIds()).thenThrow(new DataAccessResourceFailureException("down"));
+
+            negativeLookupCache.rebuild();
+
+            assertFalse(negativeLookupCache.isKnownMissing(Role.CAREGIVER, KNOWN_ID));
+            assertTrue(negativeLookupCache.isKnownMissing(Role.CAREGIVER, UNKNOWN_ID));
+        }
+    }
+
+    @Nested
+    class DisabledFilterTests {
+        @BeforeEach
+        void disableFilter() {
+            negativeLookupCache = new NegativeLookupCache(userRepository, 100, 30000, 100, 0.01, false, hitCounter);
+        }
+
+        @Test
+        void idCreatedElsewhereIsNotReportedMissing() {
+            rebuildWith(KNOWN_ID);
+
+            assertFalse(negativeLookupCache.isKnownMissing(Role.CAREGIVER, UNKNOWN_ID));
+            assertEquals(0, hitCounter.count());
+            verify(userRepository, never()).streamAllIds();
+        }
+
+        @Test
+        void confirmedMissIsStillCached() {
+            negativeLookupCache.recordMissing(Role.CAREGIVER, UNKNOWN_ID);
+
+            assertTrue(negativeLookupCache.isKnownMissing(Role.CAREGIVER, UNKNOWN_ID));
+        }
+    }
+
+    @Nested
+    class MissCacheTests {
+        @Test
+        void recordMissingIsScopedToRole() {
+            rebuildWith(KNOWN_ID);
+
+            negativeLookupCache.recordMissing(Role.CAREGIVER, KNOWN_ID);
+
+            assertTrue(negativeLookupCache.isKnownMissing(Role.CAREGIVER, KNOWN_ID));
+            assertFalse(negativeLookupCache.isKnownMissing(Role.PACILIAN, KNOWN_ID));
+        }
+
+        @Test
+        void recordCreatedClearsRecordedMiss() {
+            negativeLookupCache.recordMissing(Role.CAREGIVER, KNOWN_ID);
+
+            negativeLookupCache.recordCreated(KNOWN_ID);
+
+            assertFalse(negativeLookupCache.isKnownMissing(Role.CAREGIVER, KNOWN_ID));
+        }
+    }
+
+    private void rebuildWith(String... ids) {
+        when(userRepository.count()).thenReturn((long) ids.length);
+        when(userRepository.streamAllIds()).thenReturn(Stream.of(ids));
+        negativeLookupCache.rebuild();
+    }
+}
@@ -0,0 +1,137 @@
+package id.ac.ui.cs.advprog.beauthentication.cache;
+
+import id.ac.ui.cs.advprog.beauthentication.dto.CaregiverPublicDto;
+import id.ac.ui.cs.advprog.beauthentication.dto.PacilianPublicDto;
+import id.ac.ui.cs.advprog.beauthentication.enums.Speciality;
+import id.ac.ui.cs.advprog.beauthentication.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PublicProfileCacheTest {
+
+    private static final String ID = "user-id";
+
+    private MeterRegistry meterRegistry;
+    private PublicProfileCache publicProfileCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        publicProfileCache = new PublicProfileCache(100, 60000, meterRegistry);
+    }
+
+    @Nested
+    class LookupTests {
+        @Test
+        void getCaregiverLoadsOnceAndServesFromCache() {
+            AtomicInteger loads = new AtomicInteger();
+
+            CaregiverPublicDto first = publicProfileCache.getCaregiver(ID, id -> {
+                loads.incrementAndGet();
+                return createCaregiver(id);
+            });
+            CaregiverPublicDto second = publicProfileCache.getCaregiver(ID, id -> {
+                loads.incrementAndGet();
+                return createCaregiver(id);
+            });
+
+            assertEquals(1, loads.get());
+            assertEquals(first, second);
+        }
+
+        @Test
+        void getPacilianDoesNotCacheFailedLoads() {
+            assertThrows(ResourceNotFoundException.class, () -> publicProfileCache.getPacilian(ID, id -> {
+                throw new ResourceNotFoundException("Pacilian not found with id: " + id);
+            }));
+
+            PacilianPublicDto result = publicProfileCache.getPacilian(ID, PublicProfileCacheTest.this::createPacilian);
+
+            assertEquals(ID, result.getId());
+        }
+
+        @Test
+        void putEntriesAreSharedWithLoaderLookups() {
+            assertNull(publicProfileCache.getCachedCaregiver(ID));
+
+            publicProfileCache.putCaregiver(ID, createCaregiver(ID));
+            CaregiverPublicDto result = publicProfileCache.getCaregiver(ID, id -> {
+                throw new AssertionError("Loader should not run");
+            });
+
+            assertEquals(ID, result.getId());
+            assertEquals(result, publicProfileCache.getCachedCaregiver(ID));
+        }
+
+        @Test
+        void loadedEntriesAreVisibleToCachedLookups() {
+            publicProfileCache.getPacilian(ID, PublicProfileCacheTest.this::createPacilian);
+
+            assertEquals(ID, publicProfileCache.getCachedPacilian(ID).getId());
+        }
+
+        @Test
+        void hitsAndMissesAreExported() {
+            publicProfileCache.getCaregiver(ID, PublicProfileCacheTest.this::createCaregiver);
+            publicProfileCache.getCaregiver(ID, PublicProfileCacheTest.this::createCaregiver);
+
+            assertEquals(1, meterRegistry.get("cache.gets")
+                    .tag("cache", "data.profile.caregiver")
+                    .tag("result", "hit")
+                    .functionCounter()
+                    .count());
+            assertEquals(1, meterRegistry.get("cache.gets")
+                    .tag("cache", "data.profile.caregiver")
+                    .tag("result", "miss")
+                    .functionCounter()
+                    .count());
+        }
+    }
+
+    @Nested
+    class EvictionTests {
+        @Test
+        void evictForcesReload() {
+            AtomicInteger loads = new AtomicInteger();
+            publicProfileCache.getPacilian(ID, id -> {
+                loads.incrementAndGet();
+                return createPacilian(id);
+            });
+
+            publicProfileCache.evict(ID);
+            publicProfileCache.getPacilian(ID, id -> {
+                loads.incrementAndGet();
+                return createPacilian(id);
+            });
+
+            assertEquals(2, loads.get());
+        }
+    }
+
+    private CaregiverPublicDto createCaregiver(String id) {
+        return CaregiverPublicDto.builder()
+                .id(id)
+                .name("Dr. Test")
+                .email("doctor@example.com")
+                .speciality(Speciality.DOKTER_UMUM)
+                .workAddress("123 Hospital St.")
+                .phoneNumber("0812345678")
+                .build();
+    }
+
+    private PacilianPublicDto createPacilian(String id) {
+        return PacilianPublicDto.builder()
+                .id(id)
+                .name("Test Patient")
+                .email("patient@example.com")
+                .phoneNumber("0812345678")
+                .build();
+    }
+}
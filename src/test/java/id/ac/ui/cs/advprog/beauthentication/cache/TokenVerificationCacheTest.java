@@ -0,0 +1,131 @@
+package id.ac.ui.cs.advprog.beauthentication.cache;
+
+import id.ac.ui.cs.advprog.beauthentication.dto.TokenVerificationResponseDto;
+import id.ac.ui.cs.advprog.beauthentication.dto.ValidatedTokenDto;
+import id.ac.ui.cs.advprog.beauthentication.enums.Role;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenVerificationCacheTest {
+
+    private static final String TOKEN = "header.payload.signature";
+    private static final long TTL = 60000;
+
+    private Counter hitCounter;
+    private Counter missCounter;
+    private TokenVerificationCache tokenVerificationCache;
+
+    @BeforeEach
+    void setUp() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        hitCounter = meterRegistry.counter("hit");
+        missCounter = meterRegistry.counter("miss");
+        Counter evictionCounter = meterRegistry.counter("eviction");
+
+        tokenVerificationCache = new TokenVerificationCache(100, TTL, hitCounter, missCounter, evictionCounter);
+    }
+
+    @Nested
+    class LookupTests {
+        @Test
+        void getUnknownTokenCountsMiss() {
+            Optional<TokenVerificationResponseDto> result = tokenVerificationCache.get(TOKEN);
+
+            assertTrue(result.isEmpty());
+            assertEquals(1, missCounter.count());
+            assertEquals(0, hitCounter.count());
+        }
+
+        @Test
+        void getCachedTokenCountsHitAndRecomputesExpiresIn() {
+            ValidatedTokenDto validatedToken = createValidatedToken(30000);
+            tokenVerificationCache.put(TOKEN, validatedToken, createValidResponse(999999L));
+
+            Optional<TokenVerificationResponseDto> result = tokenVerificationCache.get(TOKEN);
+
+            assertTrue(result.isPresent());
+            assertTrue(result.get().isValid());
+            assertEquals("user-id", result.get().getUserId());
+            assertEquals(Role.PACILIAN, result.get().getRole());
+            assertTrue(result.get().getExpiresIn() > 0);
+            assertTrue(result.get().getExpiresIn() <= 30000);
+            assertEquals(1, hitCounter.count());
+        }
+
+        @Test
+        void getRejectedByPredicateCountsMissAndEvicts() {
+            tokenVerificationCache.put(TOKEN, createValidatedToken(30000), createValidResponse(30000L));
+
+            assertTrue(tokenVerificationCache.get(TOKEN, validatedToken -> false).isEmpty());
+            assertTrue(tokenVerificationCache.get(TOKEN).isEmpty());
+            assertEquals(2, missCounter.count());
+        }
+
+        @Test
+        void getDoesNotExposeCachedInstance() {
+            tokenVerificationCache.put(TOKEN, createValidatedToken(30000), createValidResponse(30000L));
+
+            tokenVerificationCache.get(TOKEN).orElseThrow().setEmail("changed@example.com");
+
+            assertEquals("user@example.com", tokenVerificationCache.get(TOKEN).orElseThrow().getEmail());
+        }
+    }
+
+    @Nested
+    class StoreTests {
+        @Test
+        void putInvalidResponseIsNotCached() {
+            TokenVerificationResponseDto invalidResponse = TokenVerificationResponseDto.builder()
+                    .valid(false)
+                    .build();
+
+            tokenVerificationCache.put(TOKEN, createValidatedToken(30000), invalidResponse);
+
+            assertTrue(tokenVerificationCache.get(TOKEN).isEmpty());
+        }
+
+        @Test
+        void invalidateRemovesCachedToken() {
+            tokenVerificationCache.put(TOKEN, createValidatedToken(30000), createValidResponse(30000L));
+
+            tokenVerificationCache.invalidate(TOKEN);
+
+            assertTrue(tokenVerificationCache.get(TOKEN).isEmpty());
+        }
+
+        @Test
+        void putExpiredTokenIsNotCached() {
+            tokenVerificationCache.put(TOKEN, createValidatedToken(-1000), createValidResponse(0L));
+
+            assertTrue(tokenVerificationCache.get(TOKEN).isEmpty());
+        }
+    }
+
+    private ValidatedTokenDto createValidatedToken(long millisUntilExpiry) {
+        return ValidatedTokenDto.builder()
+                .subject("user@example.com")
+                .userId("user-id")
+                .role(Role.PACILIAN)
+                .expiration(new Date(System.currentTimeMillis() + millisUntilExpiry))
+                .build();
+    }
+
+    private TokenVerificationResponseDto createValidResponse(Long expiresIn) {
+        return TokenVerificationResponseDto.builder()
+                .valid(true)
+                .userId("user-id")
+                .email("user@example.com")
+                .role(Role.PACILIAN)
+                .expiresIn(expiresIn)
+                .build();
+    }
+}
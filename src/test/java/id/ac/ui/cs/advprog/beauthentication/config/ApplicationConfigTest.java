@@ -1,7 +1,11 @@
 package id.ac.ui.cs.advprog.beauthentication.config;
 
+import id.ac.ui.cs.advprog.beauthentication.exception.ServiceOverloadedException;
 import id.ac.ui.cs.advprog.beauthentication.model.User;
 import id.ac.ui.cs.advprog.beauthentication.repository.UserRepository;
+import id.ac.ui.cs.advprog.beauthentication.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -9,11 +13,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
 
@@ -68,7 +76,8 @@ class ApplicationConfigTest {
     class AuthenticationTests {
         @Test
         void authenticationProvider_ReturnsProvider() {
-            DaoAuthenticationProvider authProvider = (DaoAuthenticationProvider) applicationConfig.authenticationProvider();
+            DaoAuthenticationProvider authProvider = (DaoAuthenticationProvider) applicationConfig
+                    .authenticationProvider(mock(PasswordEncoder.class));
             
             assertNotNull(authProvider);
         }
@@ -89,11 +98,101 @@ class ApplicationConfigTest {
     @Nested
     class PasswordEncoderTests {
         @Test
-        void returnsCorrectBCryptEncoder() {
-            var encoder = applicationConfig.passwordEncoder();
-            
+        void returnsBoundedBCryptEncoder() {
+            PasswordEncoder encoder = createPasswordEncoder("bcrypt", 4);
+
             assertNotNull(encoder);
-            assertTrue(encoder instanceof BCryptPasswordEncoder);
+            assertTrue(encoder instanceof BoundedPasswordEncoder);
+            assertTrue(encoder.encode("password").startsWith("{bcrypt}$2a$04$"));
+        }
+
+        @Test
+        void matchesLegacyPrefixlessBCryptHashAndRequestsUpgrade() {
+            PasswordEncoder encoder = createPasswordEncoder("bcrypt", 4);
+            String legacyHash = new BCryptPasswordEncoder(4).encode("password");
+
+            assertTrue(encoder.matches("password", legacyHash));
+            assertTrue(encoder.upgradeEncoding(legacyHash));
+        }
+
+        @Test
+        void requestsUpgradeWhenBCryptStrengthIncreases() {
+            String weakHash = createPasswordEncoder("bcrypt", 4).encode("password");
+
+            PasswordEncoder encoder = createPasswordEncoder("bcrypt", 5);
+
+            assertTrue(encoder.matches("password", weakHash));
+            assertTrue(encoder.upgradeEncoding(weakHash));
+            assertFalse(encoder.upgradeEncoding(encoder.encode("password")));
         }
+
+        @Test
+        void supportsPbkdf2Encoding() {
+            PasswordEncoder encoder = createPasswordEncoder("pbkdf2", 4);
+
+            String hash = encoder.encode("password");
+
+            assertTrue(hash.startsWith("{pbkdf2}"));
+            assertTrue(encoder.matches("password", hash));
+        }
+
+        @Test
+        void unknownEncoderIsRejected() {
+            assertThrows(IllegalArgumentException.class, () -> createPasswordEncoder("md5", 4));
+        }
+    }
+
+    @Nested
+    class PasswordUpgradeTests {
+        @Test
+        void updatePasswordStoresNewHashForUser() {
+            User user = User.builder().email("test@example.com").password("old").build();
+
+            UserDetails result = applicationConfig.userDetailsPasswordService().updatePassword(user, "{bcrypt}new");
+
+            verify(userRepository).updatePasswordByEmail("test@example.com", "{bcrypt}new");
+            assertEquals("{bcrypt}new", result.getPassword());
+        }
+
+        @Test
+        void legacyHashIsUpgradedOnLogin() {
+            PasswordEncoder passwordEncoder = legacyHashEncoder();
+            when(passwordEncoder.encode("password")).thenReturn("{bcrypt}new");
+
+            Authentication result = applicationConfig.authenticationProvider(passwordEncoder)
+                    .authenticate(new UsernamePasswordAuthenticationToken("test@example.com", "password"));
+
+            assertTrue(result.isAuthenticated());
+            verify(userRepository).updatePasswordByEmail("test@example.com", "{bcrypt}new");
+        }
+
+        @Test
+        void saturatedHashPoolSkipsUpgradeWithoutFailingLogin() {
+            PasswordEncoder passwordEncoder = legacyHashEncoder();
+            when(passwordEncoder.encode("password")).thenThrow(new ServiceOverloadedException("busy", 1));
+
+            Authentication result = applicationConfig.authenticationProvider(passwordEncoder)
+                    .authenticate(new UsernamePasswordAuthenticationToken("test@example.com", "password"));
+
+            assertTrue(result.isAuthenticated());
+            assertEquals("{bcrypt}legacy", ((User) result.getPrincipal()).getPassword());
+            verify(userRepository, never()).updatePasswordByEmail(anyString(), anyString());
+        }
+
+        private PasswordEncoder legacyHashEncoder() {
+            User user = User.builder().email("test@example.com").password("{bcrypt}legacy").build();
+            when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+
+            PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+            when(passwordEncoder.matches("password", "{bcrypt}legacy")).thenReturn(true);
+            when(passwordEncoder.upgradeEncoding("{bcrypt}legacy")).thenReturn(true);
+            return passwordEncoder;
+        }
+    }
+
+    private PasswordEncoder createPasswordEncoder(String encodingId, int bcryptStrength) {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        return applicationConfig.passwordEncoder(encodingId, bcryptStrength, 1, 4, 1,
+                meterRegistry.timer("queue"), meterRegistry.timer("hash"), meterRegistry.counter("rejected"));
     }
-}
\ No newline at end of file
+}
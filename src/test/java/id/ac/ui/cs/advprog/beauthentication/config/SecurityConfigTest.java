@@ -1,6 +1,7 @@
 package id.ac.ui.cs.advprog.beauthentication.config;
 
 import id.ac.ui.cs.advprog.beauthentication.filter.JwtAuthFilter;
+import id.ac.ui.cs.advprog.beauthentication.security.TokenRevocationLogoutHandler;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -13,6 +14,8 @@ import org.springframework.http.MediaType;
 import org.springframework.web.cors.CorsConfigurationSource;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.options;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -34,6 +37,9 @@ class SecurityConfigTest {
     @MockBean
     private AuthenticationProvider authenticationProvider;
 
+    @MockBean
+    private TokenRevocationLogoutHandler tokenRevocationLogoutHandler;
+
     @Test
     void publicEndpointsAreAccessibleWithoutAuthentication() throws Exception {
         performGetRequestAndExpectOkStatus("/api");
@@ -57,7 +63,7 @@ class SecurityConfigTest {
 
     @Test
     void corsConfigurationSourceBeanIsCreated() {
-        SecurityConfig securityConfig = new SecurityConfig(jwtAuthFilter, authenticationProvider);
+        SecurityConfig securityConfig = new SecurityConfig(jwtAuthFilter, authenticationProvider, tokenRevocationLogoutHandler);
         CorsConfigurationSource corsConfigurationSource = securityConfig.corsConfigurationSource();
         assertNotNull(corsConfigurationSource);
     }
@@ -83,6 +89,8 @@ class SecurityConfigTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.message").value("Logged out successfully"))
                 .andExpect(jsonPath("$.status").value("success"));
+
+        verify(tokenRevocationLogoutHandler).logout(any(), any(), any());
     }
 
     private void performGetRequestAndExpectOkStatus(String endpoint) throws Exception {
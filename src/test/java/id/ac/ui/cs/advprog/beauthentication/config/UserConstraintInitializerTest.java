@@ -0,0 +1,64 @@
+package id.ac.ui.cs.advprog.beauthentication.config;
+
+import id.ac.ui.cs.advprog.beauthentication.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class UserConstraintInitializerTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private UserConstraintInitializer userConstraintInitializer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        userConstraintInitializer = new UserConstraintInitializer(jdbcTemplate);
+    }
+
+    @Test
+    void dropsAutoNamedConstraintsOnPostgres() {
+        databaseIs("PostgreSQL");
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("email"), eq(User.EMAIL_CONSTRAINT), eq(User.EMAIL_CONSTRAINT)))
+                .thenReturn(List.of("uk_6dotkott2kjsp8vw4d0m25fb7"));
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("nik"), eq(User.NIK_CONSTRAINT), eq(User.NIK_CONSTRAINT)))
+                .thenReturn(List.of());
+
+        userConstraintInitializer.run(null);
+
+        verify(jdbcTemplate).execute("ALTER TABLE users DROP CONSTRAINT \"uk_6dotkott2kjsp8vw4d0m25fb7\"");
+        verify(jdbcTemplate, never()).execute(contains(User.EMAIL_CONSTRAINT));
+        verify(jdbcTemplate, never()).execute(contains(User.NIK_CONSTRAINT));
+    }
+
+    @Test
+    void skipsOtherDatabases() {
+        databaseIs("H2");
+
+        userConstraintInitializer.run(null);
+
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(String.class), any(Object[].class));
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void failureDoesNotStopStartup() {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+
+        assertDoesNotThrow(() -> userConstraintInitializer.run(null));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void databaseIs(String product) {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(product);
+    }
+}
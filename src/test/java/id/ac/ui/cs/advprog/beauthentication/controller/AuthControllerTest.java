@@ -3,6 +3,8 @@ package id.ac.ui.cs.advprog.beauthentication.controller;
 import id.ac.ui.cs.advprog.beauthentication.dto.*;
 import id.ac.ui.cs.advprog.beauthentication.enums.Role;
 import id.ac.ui.cs.advprog.beauthentication.enums.Speciality; 
+import id.ac.ui.cs.advprog.beauthentication.exception.TooManyRequestsException;
+import id.ac.ui.cs.advprog.beauthentication.security.LoginThrottle;
 import id.ac.ui.cs.advprog.beauthentication.service.AuthService;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,6 +15,9 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -23,6 +28,9 @@ class AuthControllerTest {
     @Mock
     private AuthService authService;
 
+    @Mock
+    private LoginThrottle loginThrottle;
+
     @Mock
     private HttpServletRequest httpServletRequest;
 
@@ -118,7 +126,9 @@ class AuthControllerTest {
             
             when(authService.login(any(LoginDto.class))).thenReturn(expectedResponse);
             
-            ResponseEntity<ApiResponseDto<LoginResponseDto>> response = authController.login(loginDto);
+            when(httpServletRequest.getRemoteAddr()).thenReturn("10.0.0.1");
+
+            ResponseEntity<ApiResponseDto<LoginResponseDto>> response = authController.login(loginDto, httpServletRequest);
             
             assertEquals(HttpStatus.OK, response.getStatusCode());
             ApiResponseDto<LoginResponseDto> body = response.getBody();
@@ -128,9 +138,57 @@ class AuthControllerTest {
             assertNotNull(body.getTimestamp());
             assertEquals(expectedResponse, body.getData());
             
+            verify(loginThrottle).checkAllowed(loginDto.getEmail(), "10.0.0.1");
             verify(authService).login(loginDto);
         }
 
+        @Test
+        void loginThrottledSkipsAuthentication() {
+            LoginDto loginDto = createLoginDto();
+            when(httpServletRequest.getRemoteAddr()).thenReturn("10.0.0.1");
+            doThrow(new TooManyRequestsException("Too many login attempts. Please try again later.", 30))
+                    .when(loginThrottle).checkAllowed(loginDto.getEmail(), "10.0.0.1");
+
+            assertThrows(TooManyRequestsException.class, () -> authController.login(loginDto, httpServletRequest));
+
+            verify(authService, never()).login(any(LoginDto.class));
+        }
+
+        @Test
+        void refreshValidTokenReturnsOkStatus() {
+            RefreshTokenDto refreshTokenDto = RefreshTokenDto.builder()
+                    .refreshToken("refresh-token")
+                    .build();
+            LoginResponseDto expectedResponse = createLoginResponse();
+
+            when(authService.refresh(any(RefreshTokenDto.class))).thenReturn(expectedResponse);
+
+            ResponseEntity<ApiResponseDto<LoginResponseDto>> response = authController.refresh(refreshTokenDto);
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            ApiResponseDto<LoginResponseDto> body = response.getBody();
+            assertNotNull(body);
+            assertEquals("Token refreshed successfully", body.getMessage());
+            assertEquals(expectedResponse, body.getData());
+
+            verify(authService).refresh(refreshTokenDto);
+        }
+
+        @Test
+        void logoutEverywhereReturnsOkStatus() {
+            Authentication authentication = mock(Authentication.class);
+
+            ResponseEntity<ApiResponseDto<Void>> response = authController.logoutEverywhere(authentication);
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            ApiResponseDto<Void> body = response.getBody();
+            assertNotNull(body);
+            assertEquals("Logged out from all sessions successfully", body.getMessage());
+            assertNull(body.getData());
+
+            verify(authService).logoutEverywhere(authentication);
+        }
+
         @Test
         void logoutReturnsOkStatus() {
             ResponseEntity<ApiResponseDto<Void>> response = authController.logout(httpServletRequest);
@@ -156,6 +214,7 @@ class AuthControllerTest {
         private LoginResponseDto createLoginResponse() {
             return LoginResponseDto.builder()
                     .accessToken("jwt-token")
+                    .refreshToken("refresh-token")
                     .email("user@example.com")
                     .name("User Name")
                     .role(Role.PACILIAN)
@@ -241,6 +300,28 @@ class AuthControllerTest {
             verifyNoInteractions(authService);
         }
 
+        @Test
+        void verifyTokensReturnsOneResponsePerToken() {
+            List<String> tokens = List.of(VALID_TOKEN, INVALID_TOKEN);
+            List<TokenVerificationResponseDto> expectedResponses = List.of(
+                    createTokenVerificationResponse(true),
+                    createTokenVerificationResponse(false));
+            BatchTokenVerificationDto batchDto = BatchTokenVerificationDto.builder()
+                    .tokens(tokens)
+                    .build();
+            when(authService.verifyTokens(tokens)).thenReturn(expectedResponses);
+
+            ResponseEntity<ApiResponseDto<List<TokenVerificationResponseDto>>> response = authController.verifyTokens(batchDto);
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            ApiResponseDto<List<TokenVerificationResponseDto>> body = response.getBody();
+            assertNotNull(body);
+            assertEquals("Tokens verified successfully", body.getMessage());
+            assertEquals(expectedResponses, body.getData());
+
+            verify(authService).verifyTokens(tokens);
+        }
+
         private TokenVerificationResponseDto createTokenVerificationResponse(boolean isValid) {
             if (!isValid) {
                 return TokenVerificationResponseDto.builder().valid(false).build();
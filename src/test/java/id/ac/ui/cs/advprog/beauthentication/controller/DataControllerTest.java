@@ -0,0 +1,89 @@
+package id.ac.ui.cs.advprog.beauthentication.controller;
+
+import id.ac.ui.cs.advprog.beauthentication.dto.ApiResponseDto;
+import id.ac.ui.cs.advprog.beauthentication.dto.CaregiverPageDto;
+import id.ac.ui.cs.advprog.beauthentication.dto.CaregiverPublicDto;
+import id.ac.ui.cs.advprog.beauthentication.service.DataService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class DataControllerTest {
+
+    private static final long EXPORT_TIMEOUT = 120000;
+
+    private DataService dataService;
+    private DataController dataController;
+
+    @BeforeEach
+    void setUp() {
+        dataService = mock(DataService.class);
+        dataController = new DataController(dataService);
+        ReflectionTestUtils.setField(dataController, "exportTimeoutMillis", EXPORT_TIMEOUT);
+    }
+
+    @Nested
+    class CaregiverPageTests {
+        @Test
+        void getCaregiverPagePassesCursorAndWrapsPage() {
+            CaregiverPageDto page = CaregiverPageDto.builder()
+                    .items(List.of(CaregiverPublicDto.builder().id("b").build()))
+                    .nextCursor("next")
+                    .build();
+            when(dataService.getCaregiverPage(2, "cursor")).thenReturn(page);
+
+            ResponseEntity<ApiResponseDto<CaregiverPageDto>> response = dataController.getCaregiverPage(2, "cursor");
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertNotNull(response.getBody());
+            assertEquals(page, response.getBody().getData());
+        }
+
+        @Test
+        void getCaregiverPageMalformedCursorPropagates() {
+            when(dataService.getCaregiverPage(2, "bad")).thenThrow(new IllegalArgumentException("Invalid cursor: bad"));
+
+            assertThrows(IllegalArgumentException.class, () -> dataController.getCaregiverPage(2, "bad"));
+        }
+    }
+
+    @Nested
+    class ExportTests {
+        @Test
+        void exportUsesItsOwnTimeout() {
+            WebAsyncTask<Void> task = dataController.exportCaregivers(new MockHttpServletResponse());
+
+            assertEquals(EXPORT_TIMEOUT, task.getTimeout());
+        }
+
+        @Test
+        void exportStreamsNdjsonToResponse() throws Exception {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            doAnswer(invocation -> {
+                OutputStream outputStream = invocation.getArgument(0);
+                outputStream.write("{\"id\":\"a\"}\n".getBytes(StandardCharsets.UTF_8));
+                return null;
+            }).when(dataService).exportCaregivers(any(OutputStream.class));
+
+            WebAsyncTask<Void> task = dataController.exportCaregivers(response);
+            task.getCallable().call();
+
+            assertEquals(MediaType.APPLICATION_NDJSON_VALUE, response.getContentType());
+            assertEquals("{\"id\":\"a\"}\n", response.getContentAsString());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package id.ac.ui.cs.advprog.beauthentication.controller;
+
+import id.ac.ui.cs.advprog.beauthentication.security.JwtKeyProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwksControllerTest {
+
+    private JwtKeyProvider jwtKeyProvider;
+    private JwksController jwksController;
+
+    @BeforeEach
+    void setUp() {
+        jwtKeyProvider = new JwtKeyProvider("RS256", "", "", "", "", new DefaultResourceLoader());
+        jwksController = new JwksController(jwtKeyProvider, 900);
+    }
+
+    @Test
+    void getJwksReturnsPublicKeysWithCachingHeaders() {
+        ResponseEntity<Map<String, Object>> response = jwksController.getJwks(
+                new ServletWebRequest(new MockHttpServletRequest("GET", "/.well-known/jwks.json")));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(jwtKeyProvider.jwks(), response.getBody());
+        String cacheControl = response.getHeaders().getCacheControl();
+        assertNotNull(cacheControl);
+        assertTrue(cacheControl.contains("max-age=900"));
+        assertTrue(cacheControl.contains("public"));
+        assertNotNull(response.getHeaders().getETag());
+    }
+
+    @Test
+    void getJwksWithMatchingETagReturnsNotModified() {
+        ResponseEntity<Map<String, Object>> first = jwksController.getJwks(
+                new ServletWebRequest(new MockHttpServletRequest("GET", "/.well-known/jwks.json")));
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/.well-known/jwks.json");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, first.getHeaders().getETag());
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+        ResponseEntity<Map<String, Object>> second = jwksController.getJwks(new ServletWebRequest(request, servletResponse));
+
+        assertNull(second);
+        assertEquals(HttpStatus.NOT_MODIFIED.value(), servletResponse.getStatus());
+    }
+}
@@ -0,0 +1,145 @@
+package id.ac.ui.cs.advprog.beauthentication.controller;
+
+import id.ac.ui.cs.advprog.beauthentication.dto.CaregiverPageDto;
+import id.ac.ui.cs.advprog.beauthentication.dto.CaregiverPublicDto;
+import id.ac.ui.cs.advprog.beauthentication.dto.PacilianPublicDto;
+import id.ac.ui.cs.advprog.beauthentication.enums.Speciality;
+import id.ac.ui.cs.advprog.beauthentication.exception.GlobalExceptionHandler;
+import id.ac.ui.cs.advprog.beauthentication.exception.ResourceNotFoundException;
+import id.ac.ui.cs.advprog.beauthentication.service.ReactiveDataService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.test.web.servlet.client.MockMvcWebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+class ReactiveDataControllerTest {
+
+    private static final String ID = "caregiver-id";
+
+    private ReactiveDataService reactiveDataService;
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        reactiveDataService = mock(ReactiveDataService.class);
+        webTestClient = MockMvcWebTestClient.bindToController(new ReactiveDataController(reactiveDataService))
+                .controllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Nested
+    class LookupTests {
+        @Test
+        void getCaregiverByIdReturnsCaregiver() {
+            when(reactiveDataService.getCaregiverById(ID)).thenReturn(Mono.just(createCaregiver(ID)));
+
+            webTestClient.get().uri("/api/data/caregiver/{id}", ID)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.status").isEqualTo(200)
+                    .jsonPath("$.message").isEqualTo("Caregiver retrieved successfully")
+                    .jsonPath("$.data.id").isEqualTo(ID);
+        }
+
+        @Test
+        void getCaregiverByIdMissingReturnsNotFound() {
+            when(reactiveDataService.getCaregiverById(ID))
+                    .thenReturn(Mono.error(new ResourceNotFoundException("Caregiver not found with id: " + ID)));
+
+            webTestClient.get().uri("/api/data/caregiver/{id}", ID)
+                    .exchange()
+                    .expectStatus().isNotFound()
+                    .expectBody()
+                    .jsonPath("$.message").isEqualTo("Caregiver not found with id: " + ID);
+        }
+
+        @Test
+        void getPacilianByIdReturnsPacilian() {
+            when(reactiveDataService.getPacilianById("pacilian-id")).thenReturn(Mono.just(PacilianPublicDto.builder()
+                    .id("pacilian-id")
+                    .name("Test Patient")
+                    .build()));
+
+            webTestClient.get().uri("/api/data/pacilian/{id}", "pacilian-id")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.data.name").isEqualTo("Test Patient");
+        }
+    }
+
+    @Nested
+    class ListingTests {
+        @Test
+        void getCaregiverPagePassesCursor() {
+            when(reactiveDataService.getCaregiverPage(2, "abc")).thenReturn(Mono.just(CaregiverPageDto.builder()
+                    .items(List.of(createCaregiver(ID)))
+                    .nextCursor("next")
+                    .build()));
+
+            webTestClient.get().uri("/api/data?limit=2&cursor=abc")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.data.items[0].id").isEqualTo(ID)
+                    .jsonPath("$.data.nextCursor").isEqualTo("next");
+        }
+
+        @Test
+        void searchCaregiversInvalidSpecialityReturnsBadRequest() {
+            webTestClient.get().uri("/api/data/search?speciality=Unknown")
+                    .exchange()
+                    .expectStatus().isBadRequest();
+
+            verify(reactiveDataService, never()).searchCaregivers(any(), any());
+        }
+
+        @Test
+        void searchCaregiversByNameReturnsResults() {
+            when(reactiveDataService.searchCaregivers(eq("Test"), isNull()))
+                    .thenReturn(Mono.just(List.of(createCaregiver(ID))));
+
+            webTestClient.get().uri("/api/data/search?name=Test")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.data[0].id").isEqualTo(ID);
+        }
+
+        @Test
+        void exportCaregiversStreamsNdjson() {
+            when(reactiveDataService.exportCaregivers())
+                    .thenReturn(Flux.just(createCaregiver("a"), createCaregiver("b")));
+
+            webTestClient.get().uri("/api/data/export")
+                    .accept(MediaType.APPLICATION_NDJSON)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                    .expectBodyList(CaregiverPublicDto.class)
+                    .hasSize(2);
+        }
+    }
+
+    private CaregiverPublicDto createCaregiver(String id) {
+        return CaregiverPublicDto.builder()
+                .id(id)
+                .name("Dr. Test")
+                .email("doctor@example.com")
+                .speciality(Speciality.DOKTER_UMUM)
+                .workAddress("123 Hospital St.")
+                .phoneNumber("0812345678")
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package id.ac.ui.cs.advprog.beauthentication.controller;
+
+import id.ac.ui.cs.advprog.beauthentication.enums.Speciality;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpecialityParameterTest {
+
+    @Test
+    void blankSpecialityMeansNoFilter() {
+        assertNull(SpecialityParameter.parse(null));
+        assertNull(SpecialityParameter.parse("  "));
+    }
+
+    @Test
+    void displayNameIsMatchedIgnoringCase() {
+        assertEquals(Speciality.DOKTER_UMUM, SpecialityParameter.parse("dokter umum"));
+    }
+
+    @Test
+    void doubleEncodedSpecialityIsDecoded() {
+        assertEquals(Speciality.FISIOTERAPI_REHABILITASI, SpecialityParameter.parse("Fisioterapi%2520%2526%2520Rehabilitasi"));
+    }
+
+    @Test
+    void malformedEncodingFallsBackToRawValue() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> SpecialityParameter.parse("100%"));
+
+        assertTrue(exception.getMessage().startsWith("Invalid speciality: 100%."));
+    }
+
+    @Test
+    void unknownSpecialityListsValidValues() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> SpecialityParameter.parse("Unknown"));
+
+        assertEquals("Invalid speciality: Unknown. Valid specialities are: " + Arrays.toString(Speciality.values()),
+                exception.getMessage());
+    }
+}
@@ -8,15 +8,19 @@ import static org.junit.jupiter.api.Assertions.*;
 class LoginResponseDtoTest {
 
     private static final String TEST_TOKEN = "jwt-token";
+    private static final String TEST_REFRESH_TOKEN = "refresh-token";
     private static final String TEST_EMAIL = "user@example.com";
     private static final String TEST_NAME = "User Name";
     private static final Role TEST_ROLE = Role.PACILIAN;
     private static final Long TEST_EXPIRES = 3600L;
+    private static final Long TEST_REFRESH_EXPIRES = 1209600L;
     private static final String DIFFERENT_TOKEN = "different-token";
+    private static final String DIFFERENT_REFRESH_TOKEN = "different-refresh-token";
     private static final String DIFFERENT_EMAIL = "different@example.com";
     private static final String DIFFERENT_NAME = "Different Name";
     private static final Role DIFFERENT_ROLE = Role.CAREGIVER;
     private static final Long DIFFERENT_EXPIRES = 7200L;
+    private static final Long DIFFERENT_REFRESH_EXPIRES = 604800L;
 
     @Nested
     class ConstructorTests {
@@ -32,16 +36,19 @@ class LoginResponseDtoTest {
             LoginResponseDto dto = new LoginResponseDto();
             
             assertNull(dto.getAccessToken());
+            assertNull(dto.getRefreshToken());
             assertNull(dto.getEmail());
             assertNull(dto.getName());
             assertNull(dto.getRole());
             assertNull(dto.getExpiresIn());
+            assertNull(dto.getRefreshExpiresIn());
         }
 
         @Test
         void allArgsConstructorCreatesLoginResponseDto() {
             LoginResponseDto dto = new LoginResponseDto(
-                    TEST_TOKEN, TEST_EMAIL, TEST_NAME, TEST_ROLE, TEST_EXPIRES);
+                    TEST_TOKEN, TEST_REFRESH_TOKEN, TEST_EMAIL, TEST_NAME, TEST_ROLE, TEST_EXPIRES,
+                    TEST_REFRESH_EXPIRES);
             
             assertAllFieldsMatch(dto);
         }
@@ -54,10 +61,12 @@ class LoginResponseDtoTest {
             LoginResponseDto dto = new LoginResponseDto();
             
             dto.setAccessToken(TEST_TOKEN);
+            dto.setRefreshToken(TEST_REFRESH_TOKEN);
             dto.setEmail(TEST_EMAIL);
             dto.setName(TEST_NAME);
             dto.setRole(TEST_ROLE);
             dto.setExpiresIn(TEST_EXPIRES);
+            dto.setRefreshExpiresIn(TEST_REFRESH_EXPIRES);
             
             assertAllFieldsMatch(dto);
         }
@@ -68,10 +77,12 @@ class LoginResponseDtoTest {
         @Test
         void equalsReturnsTrueForEquivalentObjects() {
             LoginResponseDto dto1 = new LoginResponseDto(
-                    TEST_TOKEN, TEST_EMAIL, TEST_NAME, TEST_ROLE, TEST_EXPIRES);
+                    TEST_TOKEN, TEST_REFRESH_TOKEN, TEST_EMAIL, TEST_NAME, TEST_ROLE, TEST_EXPIRES,
+                    TEST_REFRESH_EXPIRES);
             
             LoginResponseDto dto2 = new LoginResponseDto(
-                    TEST_TOKEN, TEST_EMAIL, TEST_NAME, TEST_ROLE, TEST_EXPIRES);
+                    TEST_TOKEN, TEST_REFRESH_TOKEN, TEST_EMAIL, TEST_NAME, TEST_ROLE, TEST_EXPIRES,
+                    TEST_REFRESH_EXPIRES);
             
             assertEquals(dto1, dto2);
             assertEquals(dto1.hashCode(), dto2.hashCode());
@@ -80,10 +91,12 @@ class LoginResponseDtoTest {
         @Test
         void equalsReturnsFalseForDifferentObjects() {
             LoginResponseDto dto1 = new LoginResponseDto(
-                    TEST_TOKEN, TEST_EMAIL, TEST_NAME, TEST_ROLE, TEST_EXPIRES);
+                    TEST_TOKEN, TEST_REFRESH_TOKEN, TEST_EMAIL, TEST_NAME, TEST_ROLE, TEST_EXPIRES,
+                    TEST_REFRESH_EXPIRES);
             
             LoginResponseDto dto2 = new LoginResponseDto(
-                    DIFFERENT_TOKEN, DIFFERENT_EMAIL, DIFFERENT_NAME, DIFFERENT_ROLE, DIFFERENT_EXPIRES);
+                    DIFFERENT_TOKEN, DIFFERENT_REFRESH_TOKEN, DIFFERENT_EMAIL, DIFFERENT_NAME, DIFFERENT_ROLE,
+                    DIFFERENT_EXPIRES, DIFFERENT_REFRESH_EXPIRES);
             
             assertNotEquals(dto1, dto2);
             assertNotEquals(dto1.hashCode(), dto2.hashCode());
@@ -93,18 +106,22 @@ class LoginResponseDtoTest {
     private LoginResponseDto createTestDto() {
         return LoginResponseDto.builder()
                 .accessToken(TEST_TOKEN)
+                .refreshToken(TEST_REFRESH_TOKEN)
                 .email(TEST_EMAIL)
                 .name(TEST_NAME)
                 .role(TEST_ROLE)
                 .expiresIn(TEST_EXPIRES)
+                .refreshExpiresIn(TEST_REFRESH_EXPIRES)
                 .build();
     }
     
     private void assertAllFieldsMatch(LoginResponseDto dto) {
         assertEquals(TEST_TOKEN, dto.getAccessToken());
+        assertEquals(TEST_REFRESH_TOKEN, dto.getRefreshToken());
         assertEquals(TEST_EMAIL, dto.getEmail());
         assertEquals(TEST_NAME, dto.getName());
         assertEquals(TEST_ROLE, dto.getRole());
         assertEquals(TEST_EXPIRES, dto.getExpiresIn());
+        assertEquals(TEST_REFRESH_EXPIRES, dto.getRefreshExpiresIn());
     }
 }
\ No newline at end of file
@@ -216,6 +216,37 @@ class GlobalExceptionHandlerTest {
 
     @Nested
     class GeneralExceptions {
+        @Test
+        void handleResourceNotFoundExceptionReturnsNotFoundStatus() {
+            ResourceNotFoundException ex = new ResourceNotFoundException("Caregiver not found with id: 42");
+
+            ResponseEntity<ErrorResponse> response = exceptionHandler.handleResourceNotFoundException(ex, request);
+
+            assertResponseEntity(response, HttpStatus.NOT_FOUND, "Not Found",
+                    "Caregiver not found with id: 42");
+            assertEquals(0, ex.getStackTrace().length);
+        }
+
+        @Test
+        void handleServiceOverloadedExceptionReturnsServiceUnavailableWithRetryAfter() {
+            ServiceOverloadedException ex = new ServiceOverloadedException("Busy", 3);
+
+            ResponseEntity<ErrorResponse> response = exceptionHandler.handleServiceOverloadedException(ex, request);
+
+            assertResponseEntity(response, HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", "Busy");
+            assertEquals("3", response.getHeaders().getFirst("Retry-After"));
+        }
+
+        @Test
+        void handleTooManyRequestsExceptionReturnsTooManyRequestsWithRetryAfter() {
+            TooManyRequestsException ex = new TooManyRequestsException("Slow down", 12);
+
+            ResponseEntity<ErrorResponse> response = exceptionHandler.handleTooManyRequestsException(ex, request);
+
+            assertResponseEntity(response, HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", "Slow down");
+            assertEquals("12", response.getHeaders().getFirst("Retry-After"));
+        }
+
         @Test
         void handleIllegalArgumentExceptionReturnsBadRequestStatus() {
             IllegalArgumentException ex = new IllegalArgumentException("Invalid argument");
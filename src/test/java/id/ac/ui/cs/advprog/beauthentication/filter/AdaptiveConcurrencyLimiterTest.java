@@ -0,0 +1,143 @@
+package id.ac.ui.cs.advprog.beauthentication.filter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private MeterRegistry meterRegistry;
+    private Timer dataQueryTimer;
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dataQueryTimer = meterRegistry.timer("data.query.duration");
+        concurrencyLimiter = new AdaptiveConcurrencyLimiter(4, 2, 6, 100, 0.5, 1000, dataQueryTimer, meterRegistry);
+    }
+
+    @Nested
+    class AcquireTests {
+        @Test
+        void requestsBeyondLimitAreRejected() {
+            for (int i = 0; i < 4; i++) {
+                assertTrue(concurrencyLimiter.tryAcquire());
+            }
+
+            assertFalse(concurrencyLimiter.tryAcquire());
+            assertEquals(4, concurrencyLimiter.getInFlight());
+        }
+
+        @Test
+        void releaseFreesCapacity() {
+            for (int i = 0; i < 4; i++) {
+                concurrencyLimiter.tryAcquire();
+            }
+
+            concurrencyLimiter.release();
+
+            assertTrue(concurrencyLimiter.tryAcquire());
+        }
+
+        @Test
+        void limitAndInFlightAreExported() {
+            concurrencyLimiter.tryAcquire();
+
+            assertEquals(4, meterRegistry.get("data.concurrency.limit").gauge().value());
+            assertEquals(1, meterRegistry.get("data.concurrency.in-flight").gauge().value());
+        }
+    }
+
+    @Nested
+    class AdjustTests {
+        @Test
+        void slowQueriesDecreaseLimitMultiplicatively() {
+            dataQueryTimer.record(Duration.ofMillis(500));
+
+            concurrencyLimiter.adjust();
+
+            assertEquals(2, concurrencyLimiter.getLimit());
+        }
+
+        @Test
+        void limitNeverDropsBelowMinimum() {
+            for (int i = 0; i < 3; i++) {
+                dataQueryTimer.record(Duration.ofMillis(500));
+                concurrencyLimiter.adjust();
+            }
+
+            assertEquals(2, concurrencyLimiter.getLimit());
+        }
+
+        @Test
+        void fastQueriesUnderSaturationIncreaseLimitAdditively() {
+            for (int i = 0; i < 5; i++) {
+                concurrencyLimiter.tryAcquire();
+            }
+            dataQueryTimer.record(Duration.ofMillis(10));
+
+            concurrencyLimiter.adjust();
+
+            assertEquals(5, concurrencyLimiter.getLimit());
+        }
+
+        @Test
+        void fastQueriesWithoutSaturationKeepLimit() {
+            concurrencyLimiter.tryAcquire();
+            dataQueryTimer.record(Duration.ofMillis(10));
+
+            concurrencyLimiter.adjust();
+
+            assertEquals(4, concurrencyLimiter.getLimit());
+        }
+
+        @Test
+        void idleIntervalKeepsLimit() {
+            concurrencyLimiter.adjust();
+
+            assertEquals(4, concurrencyLimiter.getLimit());
+        }
+
+        @Test
+        void invalidConfigurationIsRejected() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new AdaptiveConcurrencyLimiter(4, 2, 6, 100, 0.5, 0, dataQueryTimer, new SimpleMeterRegistry()));
+            assertThrows(IllegalArgumentException.class,
+                    () -> new AdaptiveConcurrencyLimiter(4, 8, 6, 100, 0.5, 1000, dataQueryTimer, new SimpleMeterRegistry()));
+        }
+    }
+
+    @Nested
+    class SchedulerTests {
+        @Test
+        void adjustRunsOnDedicatedThreadUntilStopped() throws InterruptedException {
+            AdaptiveConcurrencyLimiter limiter =
+                    new AdaptiveConcurrencyLimiter(4, 2, 6, 100, 0.5, 10, dataQueryTimer, new SimpleMeterRegistry());
+            dataQueryTimer.record(Duration.ofMillis(500));
+
+            limiter.start();
+            try {
+                assertTrue(limiter.isRunning());
+                long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+                while (limiter.getLimit() == 4 && System.nanoTime() < deadline) {
+                    Thread.sleep(10);
+                }
+                assertEquals(2, limiter.getLimit());
+                assertTrue(Thread.getAllStackTraces().keySet().stream()
+                        .anyMatch(thread -> thread.getName().equals("data-concurrency-adjust")));
+            } finally {
+                limiter.stop();
+            }
+
+            assertFalse(limiter.isRunning());
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package id.ac.ui.cs.advprog.beauthentication.filter;
+
+import id.ac.ui.cs.advprog.beauthentication.exception.ServiceOverloadedException;
+import id.ac.ui.cs.advprog.beauthentication.exception.TooManyRequestsException;
+import id.ac.ui.cs.advprog.beauthentication.security.TokenBucketRateLimiter;
+import id.ac.ui.cs.advprog.beauthentication.exception.GlobalExceptionHandler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.mvc.method.annotation.ExceptionHandlerExceptionResolver;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class DataRateLimitFilterTest {
+
+    private HandlerExceptionResolver handlerExceptionResolver;
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private Counter admittedCounter;
+    private Counter rateLimitedCounter;
+    private Counter shedCounter;
+    private DataRateLimitFilter dataRateLimitFilter;
+
+    @BeforeEach
+    void setUp() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        handlerExceptionResolver = mock(HandlerExceptionResolver.class);
+        concurrencyLimiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 250, 0.9, 1000,
+                meterRegistry.timer("data.query.duration"), meterRegistry);
+        admittedCounter = meterRegistry.counter("admitted");
+        rateLimitedCounter = meterRegistry.counter("rate_limited");
+        shedCounter = meterRegistry.counter("shed");
+        dataRateLimitFilter = new DataRateLimitFilter(
+                new TokenBucketRateLimiter(1, 3, 100),
+                new TokenBucketRateLimiter(1, 1, 100),
+                concurrencyLimiter,
+                handlerExceptionResolver,
+                2,
+                admittedCounter,
+                rateLimitedCounter,
+                shedCounter);
+    }
+
+    @Nested
+    class RateLimitTests {
+        @Test
+        void requestsWithinLimitReachController() throws Exception {
+            FilterChain filterChain = mock(FilterChain.class);
+            MockHttpServletRequest request = createRequest("/api/data/caregiver/id", "10.0.0.1");
+
+            dataRateLimitFilter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+            verify(filterChain).doFilter(eq(request), any());
+            assertEquals(1, admittedCounter.count());
+            assertEquals(0, concurrencyLimiter.getInFlight());
+        }
+
+        @Test
+        void expensiveRouteIsLimitedSeparately() throws Exception {
+            FilterChain filterChain = mock(FilterChain.class);
+
+            dataRateLimitFilter.doFilter(createRequest("/api/data/search", "10.0.0.1"), new MockHttpServletResponse(), filterChain);
+            dataRateLimitFilter.doFilter(createRequest("/api/data/search", "10.0.0.1"), new MockHttpServletResponse(), filterChain);
+            dataRateLimitFilter.doFilter(createRequest("/api/data/caregiver/id", "10.0.0.1"), new MockHttpServletResponse(), filterChain);
+
+            verify(filterChain, times(2)).doFilter(any(), any());
+            verify(handlerExceptionResolver).resolveException(any(), any(), isNull(), any(TooManyRequestsException.class));
+            assertEquals(1, rateLimitedCounter.count());
+        }
+
+        @Test
+        void unknownRoutesShareOneBucket() throws Exception {
+            FilterChain filterChain = mock(FilterChain.class);
+
+            for (int i = 0; i < 4; i++) {
+                dataRateLimitFilter.doFilter(createRequest("/api/data/unknown-" + i, "10.0.0.1"),
+                        new MockHttpServletResponse(), filterChain);
+            }
+
+            verify(filterChain, times(3)).doFilter(any(), any());
+            assertEquals(1, rateLimitedCounter.count());
+        }
+
+        @Test
+        void clientsAreLimitedIndependently() throws Exception {
+            FilterChain filterChain = mock(FilterChain.class);
+
+            dataRateLimitFilter.doFilter(createRequest("/api/data/search", "10.0.0.1"), new MockHttpServletResponse(), filterChain);
+            dataRateLimitFilter.doFilter(createRequest("/api/data/search", "10.0.0.2"), new MockHttpServletResponse(), filterChain);
+
+            verify(filterChain, times(2)).doFilter(any(), any());
+        }
+    }
+
+    @Nested
+    class LoadSheddingTests {
+        @Test
+        void requestsOverConcurrencyLimitAreShed() throws Exception {
+            concurrencyLimiter.tryAcquire();
+            concurrencyLimiter.tryAcquire();
+            FilterChain filterChain = mock(FilterChain.class);
+
+            dataRateLimitFilter.doFilter(createRequest("/api/data", "10.0.0.1"), new MockHttpServletResponse(), filterChain);
+
+            verify(filterChain, never()).doFilter(any(), any());
+            verify(handlerExceptionResolver).resolveException(any(), any(), isNull(), any(ServiceOverloadedException.class));
+            assertEquals(1, shedCounter.count());
+        }
+
+        @Test
+        void permitIsReleasedWhenChainThrows() throws Exception {
+            FilterChain filterChain = mock(FilterChain.class);
+            doThrow(new IllegalStateException("boom")).when(filterChain).doFilter(any(), any());
+
+            assertThrows(IllegalStateException.class, () -> dataRateLimitFilter.doFilter(
+                    createRequest("/api/data", "10.0.0.1"), new MockHttpServletResponse(), filterChain));
+
+            assertEquals(0, concurrencyLimiter.getInFlight());
+        }
+
+        @Test
+        void asyncRequestsHoldPermitUntilComplete() throws Exception {
+            MockHttpServletRequest request = createRequest("/api/data/export", "10.0.0.1");
+            request.setAsyncSupported(true);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            FilterChain filterChain = (servletRequest, servletResponse) -> servletRequest.startAsync();
+
+            dataRateLimitFilter.doFilter(request, response, filterChain);
+            assertEquals(1, concurrencyLimiter.getInFlight());
+
+            ((MockAsyncContext) request.getAsyncContext()).complete();
+            assertEquals(0, concurrencyLimiter.getInFlight());
+        }
+
+        @Test
+        void preflightRequestsBypassLimits() throws Exception {
+            concurrencyLimiter.tryAcquire();
+            concurrencyLimiter.tryAcquire();
+            FilterChain filterChain = mock(FilterChain.class);
+            MockHttpServletRequest request = createRequest("/api/data", "10.0.0.1");
+            request.setMethod("OPTIONS");
+
+            dataRateLimitFilter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+            verify(filterChain).doFilter(eq(request), any());
+        }
+    }
+
+    @Nested
+    class RejectionResponseTests {
+        private MeterRegistry meterRegistry;
+        private DataRateLimitFilter filterWithAdvice;
+
+        @BeforeEach
+        void setUp() {
+            meterRegistry = new SimpleMeterRegistry();
+            filterWithAdvice = new DataRateLimitFilter(
+                    new TokenBucketRateLimiter(1, 1, 100),
+                    new TokenBucketRateLimiter(1, 1, 100),
+                    concurrencyLimiter,
+                    globalExceptionHandlerResolver(),
+                    2,
+                    meterRegistry.counter("admitted"),
+                    meterRegistry.counter("rate_limited"),
+                    meterRegistry.counter("shed"));
+        }
+
+        @Test
+        void rateLimitedRequestGets429WithRetryAfter() throws Exception {
+            FilterChain filterChain = mock(FilterChain.class);
+            filterWithAdvice.doFilter(createRequest("/api/data/search", "10.0.0.1"), new MockHttpServletResponse(), filterChain);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            filterWithAdvice.doFilter(createRequest("/api/data/search", "10.0.0.1"), response, filterChain);
+
+            assertEquals(429, response.getStatus());
+            assertEquals("1", response.getHeader(HttpHeaders.RETRY_AFTER));
+            assertTrue(response.getContentAsString().contains("Too many requests. Please slow down."));
+            verify(filterChain, times(1)).doFilter(any(), any());
+        }
+
+        @Test
+        void shedRequestGets503WithRetryAfter() throws Exception {
+            concurrencyLimiter.tryAcquire();
+            concurrencyLimiter.tryAcquire();
+            FilterChain filterChain = mock(FilterChain.class);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            filterWithAdvice.doFilter(createRequest("/api/data", "10.0.0.1"), response, filterChain);
+
+            assertEquals(503, response.getStatus());
+            assertEquals("2", response.getHeader(HttpHeaders.RETRY_AFTER));
+            assertTrue(response.getContentAsString().contains("Service is busy. Please try again later."));
+            verify(filterChain, never()).doFilter(any(), any());
+        }
+
+        private HandlerExceptionResolver globalExceptionHandlerResolver() {
+            StaticApplicationContext context = new StaticApplicationContext();
+            context.registerSingleton("globalExceptionHandler", GlobalExceptionHandler.class);
+            context.refresh();
+
+            ExceptionHandlerExceptionResolver resolver = new ExceptionHandlerExceptionResolver();
+            resolver.setMessageConverters(List.of(new MappingJackson2HttpMessageConverter()));
+            resolver.setApplicationContext(context);
+            resolver.afterPropertiesSet();
+            return resolver;
+        }
+    }
+
+    private MockHttpServletRequest createRequest(String path, String remoteAddress) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setRemoteAddr(remoteAddress);
+        return request;
+    }
+}
@@ -1,5 +1,10 @@
 package id.ac.ui.cs.advprog.beauthentication.filter;
 
+import id.ac.ui.cs.advprog.beauthentication.dto.ValidatedTokenDto;
+import id.ac.ui.cs.advprog.beauthentication.enums.Role;
+import id.ac.ui.cs.advprog.beauthentication.model.User;
+import id.ac.ui.cs.advprog.beauthentication.security.TokenRevocationList;
+import id.ac.ui.cs.advprog.beauthentication.security.TokenVersionRegistry;
 import id.ac.ui.cs.advprog.beauthentication.service.JwtService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -10,17 +15,21 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Nested;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.ArgumentCaptor;
 import org.mockito.MockitoAnnotations;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.servlet.HandlerExceptionResolver;
 
 import java.io.IOException;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class JwtAuthFilterTest {
@@ -37,6 +46,12 @@ class JwtAuthFilterTest {
     @Mock
     private HandlerExceptionResolver handlerExceptionResolver;
 
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+
+    @Mock
+    private TokenVersionRegistry tokenVersionRegistry;
+
     @Mock
     private HttpServletRequest request;
 
@@ -59,6 +74,8 @@ class JwtAuthFilterTest {
     void setUp() {
         MockitoAnnotations.openMocks(this);
         SecurityContextHolder.setContext(securityContext);
+        when(tokenVersionRegistry.isCurrent(any(), any())).thenReturn(true);
+        when(tokenVersionRegistry.matches(any(), any())).thenReturn(true);
     }
 
     @Nested
@@ -86,6 +103,27 @@ class JwtAuthFilterTest {
         }
     }
 
+    @Nested
+    class FilterScopeTests {
+        @Test
+        void shouldNotFilterVerifyEndpoints() {
+            when(request.getContextPath()).thenReturn("");
+            when(request.getRequestURI()).thenReturn("/api/auth/verify");
+            assertTrue(jwtAuthFilter.shouldNotFilter(request));
+
+            when(request.getRequestURI()).thenReturn("/api/auth/verify/batch");
+            assertTrue(jwtAuthFilter.shouldNotFilter(request));
+        }
+
+        @Test
+        void shouldFilterOtherEndpoints() {
+            when(request.getContextPath()).thenReturn("");
+            when(request.getRequestURI()).thenReturn("/api/profile");
+
+            assertFalse(jwtAuthFilter.shouldNotFilter(request));
+        }
+    }
+
     @Nested
     class TokenValidationTests {
         private static final String VALID_TOKEN = "valid-token";
@@ -114,33 +152,126 @@ class JwtAuthFilterTest {
             verify(filterChain).doFilter(request, response);
         }
 
+        @Test
+        void doFilterInternalRevokedTokenDoesNotSetAuthentication() throws ServletException, IOException {
+            setupTokenScenario(VALID_TOKEN, USER_EMAIL, true);
+            when(tokenRevocationList.isRevoked(any(), any())).thenReturn(true);
+
+            jwtAuthFilter.doFilterInternal(request, response, filterChain);
+
+            verify(securityContext, never()).setAuthentication(any());
+            verifyNoInteractions(userDetailsService);
+            verify(filterChain).doFilter(request, response);
+        }
+
+        @Test
+        void doFilterInternalStaleTokenVersionDoesNotSetAuthentication() throws ServletException, IOException {
+            User user = User.builder().email(USER_EMAIL).tokenVersion(1).build();
+            ValidatedTokenDto validatedToken = ValidatedTokenDto.builder()
+                    .subject(USER_EMAIL)
+                    .userId("user-id")
+                    .tokenVersion(0)
+                    .build();
+            when(request.getHeader(AUTHORIZATION_HEADER)).thenReturn(BEARER_PREFIX + VALID_TOKEN);
+            when(jwtService.parseToken(VALID_TOKEN)).thenReturn(validatedToken);
+            when(userDetailsService.loadUserByUsername(USER_EMAIL)).thenReturn(user);
+            when(jwtService.isTokenValid(validatedToken, user)).thenReturn(true);
+            when(securityContext.getAuthentication()).thenReturn(null);
+            when(tokenVersionRegistry.matches(user, 0)).thenReturn(false);
+
+            jwtAuthFilter.doFilterInternal(request, response, filterChain);
+
+            verify(securityContext, never()).setAuthentication(any());
+            verify(tokenVersionRegistry).matches(user, 0);
+            verify(tokenVersionRegistry, never()).isCurrent(any(), any());
+            verify(filterChain).doFilter(request, response);
+        }
+
         private void setupTokenScenario(String token, String userEmail, boolean isValid) {
+            ValidatedTokenDto validatedToken = validatedToken(userEmail);
             when(request.getHeader(AUTHORIZATION_HEADER)).thenReturn(BEARER_PREFIX + token);
-            when(jwtService.extractUsername(token)).thenReturn(userEmail);
+            when(jwtService.parseToken(token)).thenReturn(validatedToken);
             when(userDetailsService.loadUserByUsername(userEmail)).thenReturn(userDetails);
-            when(jwtService.isTokenValid(token, userDetails)).thenReturn(isValid);
+            when(jwtService.isTokenValid(validatedToken, userDetails)).thenReturn(isValid);
             when(securityContext.getAuthentication()).thenReturn(null);
         }
 
         private void verifyBasicTokenProcessing(String token, String userEmail) {
-            verify(jwtService).extractUsername(token);
+            verify(jwtService).parseToken(token);
             verify(userDetailsService).loadUserByUsername(userEmail);
-            verify(jwtService).isTokenValid(token, userDetails);
+            verify(jwtService).isTokenValid(validatedToken(userEmail), userDetails);
+            verify(jwtService, never()).extractUsername(any());
             verify(securityContext).getAuthentication();
         }
     }
 
+    @Nested
+    class TrustedClaimsTests {
+        private static final String TOKEN = "trusted-token";
+        private static final String USER_EMAIL = "user@example.com";
+
+        @BeforeEach
+        void enableTrustedClaims() {
+            ReflectionTestUtils.setField(jwtAuthFilter, "trustClaims", true);
+        }
+
+        @Test
+        void doFilterInternalBuildsPrincipalFromClaimsWithoutDatabase() throws ServletException, IOException {
+            ValidatedTokenDto validatedToken = ValidatedTokenDto.builder()
+                    .subject(USER_EMAIL)
+                    .userId("user-id")
+                    .name("User Name")
+                    .role(Role.CAREGIVER)
+                    .build();
+            when(request.getHeader(AUTHORIZATION_HEADER)).thenReturn(BEARER_PREFIX + TOKEN);
+            when(jwtService.parseToken(TOKEN)).thenReturn(validatedToken);
+            when(jwtService.isTokenValid(eq(validatedToken), any(User.class))).thenReturn(true);
+            when(securityContext.getAuthentication()).thenReturn(null);
+
+            jwtAuthFilter.doFilterInternal(request, response, filterChain);
+
+            ArgumentCaptor<UsernamePasswordAuthenticationToken> captor =
+                    ArgumentCaptor.forClass(UsernamePasswordAuthenticationToken.class);
+            verify(securityContext).setAuthentication(captor.capture());
+            User principal = (User) captor.getValue().getPrincipal();
+            assertEquals("user-id", principal.getId());
+            assertEquals(USER_EMAIL, principal.getEmail());
+            assertEquals(Role.CAREGIVER, principal.getRole());
+            assertNull(principal.getPassword());
+            verifyNoInteractions(userDetailsService);
+            verify(tokenVersionRegistry).isCurrent("user-id", null);
+            verify(filterChain).doFilter(request, response);
+        }
+
+        @Test
+        void doFilterInternalFallsBackToDatabaseWhenClaimsAreIncomplete() throws ServletException, IOException {
+            ValidatedTokenDto validatedToken = ValidatedTokenDto.builder()
+                    .subject(USER_EMAIL)
+                    .build();
+            when(request.getHeader(AUTHORIZATION_HEADER)).thenReturn(BEARER_PREFIX + TOKEN);
+            when(jwtService.parseToken(TOKEN)).thenReturn(validatedToken);
+            when(userDetailsService.loadUserByUsername(USER_EMAIL)).thenReturn(userDetails);
+            when(jwtService.isTokenValid(validatedToken, userDetails)).thenReturn(true);
+            when(securityContext.getAuthentication()).thenReturn(null);
+
+            jwtAuthFilter.doFilterInternal(request, response, filterChain);
+
+            verify(userDetailsService).loadUserByUsername(USER_EMAIL);
+            verify(securityContext).setAuthentication(any(UsernamePasswordAuthenticationToken.class));
+        }
+    }
+
     @Nested
     class SpecialCaseTests {
         @Test
         void doFilterInternalNullUsernameDoesNotSetAuthentication() throws ServletException, IOException {
             String token = "null-username-token";
             when(request.getHeader(AUTHORIZATION_HEADER)).thenReturn(BEARER_PREFIX + token);
-            when(jwtService.extractUsername(token)).thenReturn(null);
+            when(jwtService.parseToken(token)).thenReturn(validatedToken(null));
 
             jwtAuthFilter.doFilterInternal(request, response, filterChain);
 
-            verify(jwtService).extractUsername(token);
+            verify(jwtService).parseToken(token);
             verifyNoInteractions(userDetailsService);
             verify(securityContext, never()).getAuthentication();
             verify(securityContext, never()).setAuthentication(any());
@@ -155,12 +286,12 @@ class JwtAuthFilterTest {
                     new UsernamePasswordAuthenticationToken("user", null, null);
             
             when(request.getHeader(AUTHORIZATION_HEADER)).thenReturn(BEARER_PREFIX + token);
-            when(jwtService.extractUsername(token)).thenReturn(userEmail);
+            when(jwtService.parseToken(token)).thenReturn(validatedToken(userEmail));
             when(securityContext.getAuthentication()).thenReturn(existingAuth);
 
             jwtAuthFilter.doFilterInternal(request, response, filterChain);
 
-            verify(jwtService).extractUsername(token);
+            verify(jwtService).parseToken(token);
             verifyNoInteractions(userDetailsService);
             verify(securityContext).getAuthentication();
             verify(securityContext, never()).setAuthentication(any());
@@ -173,13 +304,19 @@ class JwtAuthFilterTest {
             RuntimeException exception = new RuntimeException("Token error");
             
             when(request.getHeader(AUTHORIZATION_HEADER)).thenReturn(BEARER_PREFIX + token);
-            when(jwtService.extractUsername(token)).thenThrow(exception);
+            when(jwtService.parseToken(token)).thenThrow(exception);
 
             jwtAuthFilter.doFilterInternal(request, response, filterChain);
 
-            verify(jwtService).extractUsername(token);
+            verify(jwtService).parseToken(token);
             verify(handlerExceptionResolver).resolveException(request, response, null, exception);
             verify(filterChain, never()).doFilter(request, response);
         }
     }
+
+    private ValidatedTokenDto validatedToken(String subject) {
+        return ValidatedTokenDto.builder()
+                .subject(subject)
+                .build();
+    }
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
+import java.time.Instant;
 import java.util.Collection;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -78,6 +79,24 @@ class UserTest {
             assertTrue(user.isCredentialsNonExpired());
             assertTrue(user.isEnabled());
         }
+
+        @Test
+        void isAccountNonLockedReturnsFalseWhileLocked() {
+            User user = User.builder()
+                    .lockedUntil(Instant.now().plusSeconds(60))
+                    .build();
+
+            assertFalse(user.isAccountNonLocked());
+        }
+
+        @Test
+        void isAccountNonLockedReturnsTrueAfterLockExpires() {
+            User user = User.builder()
+                    .lockedUntil(Instant.now().minusSeconds(1))
+                    .build();
+
+            assertTrue(user.isAccountNonLocked());
+        }
     }
 
     @Nested
@@ -3,6 +3,7 @@ package id.ac.ui.cs.advprog.beauthentication.repository;
 import id.ac.ui.cs.advprog.beauthentication.enums.Role;
 import id.ac.ui.cs.advprog.beauthentication.enums.Speciality; 
 import id.ac.ui.cs.advprog.beauthentication.model.Caregiver;
+import id.ac.ui.cs.advprog.beauthentication.repository.projection.CaregiverPublicView;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -11,9 +12,11 @@ import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -101,6 +104,126 @@ class CaregiverRepositoryTest {
         }
     }
     
+    @Nested
+    class ProjectionOperationTests {
+        @Test
+        void findProjectedByIdReturnsPublicColumns() {
+            Caregiver persistedCaregiver = persistTestCaregiver();
+
+            Optional<CaregiverPublicView> found = caregiverRepository.findProjectedById(persistedCaregiver.getId());
+
+            assertTrue(found.isPresent());
+            assertEquals(persistedCaregiver.getId(), found.get().getId());
+            assertEquals(TEST_EMAIL, found.get().getEmail());
+            assertEquals(TEST_SPECIALITY, found.get().getSpeciality());
+            assertEquals(TEST_WORK_ADDRESS, found.get().getWorkAddress());
+        }
+
+        @Test
+        void findProjectedByIdWhenCaregiverDoesNotExistReturnsEmpty() {
+            assertTrue(caregiverRepository.findProjectedById("non-existent-id").isEmpty());
+        }
+
+        @Test
+        void findAllProjectedByReturnsAllCaregivers() {
+            persistTestCaregiver();
+            persistAnotherCaregiver();
+
+            assertEquals(2, caregiverRepository.findAllProjectedBy().size());
+        }
+    }
+
+    @Nested
+    class SearchOperationTests {
+        @Test
+        void findByNameContainingIgnoreCaseMatchesPartialName() {
+            persistTestCaregiver();
+            persistAnotherCaregiver();
+
+            List<CaregiverPublicView> caregivers = caregiverRepository.findByNameContainingIgnoreCase("dr. t");
+
+            assertEquals(1, caregivers.size());
+            assertEquals(TEST_EMAIL, caregivers.get(0).getEmail());
+        }
+
+        @Test
+        void findByNameContainingIgnoreCaseTreatsWildcardsLiterally() {
+            persistTestCaregiver();
+
+            List<CaregiverPublicView> caregivers = caregiverRepository.findByNameContainingIgnoreCase("%");
+
+            assertTrue(caregivers.isEmpty());
+        }
+
+        @Test
+        void findBySpecialityReturnsOnlyMatchingCaregivers() {
+            persistTestCaregiver();
+            persistAnotherCaregiver();
+
+            List<CaregiverPublicView> caregivers = caregiverRepository.findBySpeciality(Speciality.SPESIALIS_ANAK);
+
+            assertEquals(1, caregivers.size());
+            assertEquals("another.doctor@example.com", caregivers.get(0).getEmail());
+        }
+
+        @Test
+        void findByNameAndSpecialityRequiresBothCriteria() {
+            persistTestCaregiver();
+            persistAnotherCaregiver();
+
+            List<CaregiverPublicView> matching = caregiverRepository
+                    .findByNameContainingIgnoreCaseAndSpeciality("DR.", TEST_SPECIALITY);
+            List<CaregiverPublicView> notMatching = caregiverRepository
+                    .findByNameContainingIgnoreCaseAndSpeciality("another", TEST_SPECIALITY);
+
+            assertEquals(1, matching.size());
+            assertTrue(notMatching.isEmpty());
+        }
+    }
+
+    @Nested
+    class KeysetOperationTests {
+        @Test
+        void findAllByOrderByIdAscReturnsFirstPageInIdOrder() {
+            persistTestCaregiver();
+            persistAnotherCaregiver();
+
+            List<CaregiverPublicView> caregivers = caregiverRepository.findAllByOrderByIdAsc(Limit.of(1));
+
+            assertEquals(1, caregivers.size());
+            assertEquals(caregiverRepository.findAll().stream()
+                    .map(Caregiver::getId)
+                    .sorted()
+                    .findFirst()
+                    .orElseThrow(), caregivers.get(0).getId());
+        }
+
+        @Test
+        void findByIdGreaterThanOrderByIdAscContinuesAfterCursor() {
+            persistTestCaregiver();
+            persistAnotherCaregiver();
+            CaregiverPublicView first = caregiverRepository.findAllByOrderByIdAsc(Limit.of(1)).get(0);
+
+            List<CaregiverPublicView> rest = caregiverRepository.findByIdGreaterThanOrderByIdAsc(first.getId(), Limit.of(10));
+
+            assertEquals(1, rest.size());
+            assertTrue(rest.get(0).getId().compareTo(first.getId()) > 0);
+        }
+    }
+
+    @Nested
+    class StreamOperationTests {
+        @Test
+        void streamAllByReturnsEveryCaregiver() {
+            persistTestCaregiver();
+            persistAnotherCaregiver();
+
+            try (Stream<CaregiverPublicView> caregivers = caregiverRepository.streamAllBy()) {
+                assertEquals(2, caregivers.count());
+            }
+        }
+    }
+
     @Nested
     class DeleteOperationTests {
         @Test
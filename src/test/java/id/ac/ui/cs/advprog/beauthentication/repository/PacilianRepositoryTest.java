@@ -2,6 +2,7 @@ package id.ac.ui.cs.advprog.beauthentication.repository;
 
 import id.ac.ui.cs.advprog.beauthentication.enums.Role;
 import id.ac.ui.cs.advprog.beauthentication.model.Pacilian;
+import id.ac.ui.cs.advprog.beauthentication.repository.projection.PacilianPublicView;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -96,6 +97,26 @@ class PacilianRepositoryTest {
         }
     }
     
+    @Nested
+    class ProjectionOperationTests {
+        @Test
+        void findProjectedByIdReturnsPublicColumns() {
+            Pacilian persistedPacilian = persistTestPacilian();
+
+            Optional<PacilianPublicView> found = pacilianRepository.findProjectedById(persistedPacilian.getId());
+
+            assertTrue(found.isPresent());
+            assertEquals(persistedPacilian.getId(), found.get().getId());
+            assertEquals(TEST_EMAIL, found.get().getEmail());
+            assertEquals(persistedPacilian.getPhoneNumber(), found.get().getPhoneNumber());
+        }
+
+        @Test
+        void findProjectedByIdWhenPacilianDoesNotExistReturnsEmpty() {
+            assertTrue(pacilianRepository.findProjectedById("non-existent-id").isEmpty());
+        }
+    }
+
     @Nested
     class DeleteOperationTests {
         @Test
@@ -0,0 +1,146 @@
+package id.ac.ui.cs.advprog.beauthentication.repository;
+
+import id.ac.ui.cs.advprog.beauthentication.enums.Role;
+import id.ac.ui.cs.advprog.beauthentication.model.RefreshToken;
+import id.ac.ui.cs.advprog.beauthentication.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(connection = EmbeddedDatabaseConnection.H2)
+class RefreshTokenRepositoryTest {
+
+    private static final String FAMILY_ID = "family-id";
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persistAndFlush(User.builder()
+                .email("test@example.com")
+                .password("password")
+                .name("Test User")
+                .nik("1234567890123456")
+                .address("Test Address")
+                .phoneNumber("1234567890")
+                .role(Role.PACILIAN)
+                .build());
+    }
+
+    @Nested
+    class FindByTokenHashTests {
+        @Test
+        void whenTokenExists_shouldReturnTokenWithUser() {
+            persistToken("hash-1", Instant.now().plus(1, ChronoUnit.DAYS));
+            entityManager.clear();
+
+            Optional<RefreshToken> found = refreshTokenRepository.findByTokenHash("hash-1");
+
+            assertTrue(found.isPresent());
+            assertEquals(user.getEmail(), found.get().getUser().getEmail());
+        }
+
+        @Test
+        void whenTokenDoesNotExist_shouldReturnEmpty() {
+            assertTrue(refreshTokenRepository.findByTokenHash("missing").isEmpty());
+        }
+    }
+
+    @Nested
+    class RevocationTests {
+        @Test
+        void revokeIfActive_shouldOnlySucceedOnce() {
+            RefreshToken token = persistToken("hash-1", Instant.now().plus(1, ChronoUnit.DAYS));
+
+            assertEquals(1, refreshTokenRepository.revokeIfActive(token.getId()));
+            assertEquals(0, refreshTokenRepository.revokeIfActive(token.getId()));
+        }
+
+        @Test
+        void revokeFamily_shouldRevokeEveryActiveToken() {
+            persistToken("hash-1", Instant.now().plus(1, ChronoUnit.DAYS));
+            persistToken("hash-2", Instant.now().plus(1, ChronoUnit.DAYS));
+
+            assertEquals(2, refreshTokenRepository.revokeFamily(FAMILY_ID));
+            entityManager.clear();
+
+            assertTrue(refreshTokenRepository.findByTokenHash("hash-1").orElseThrow().isRevoked());
+            assertTrue(refreshTokenRepository.findByTokenHash("hash-2").orElseThrow().isRevoked());
+        }
+    }
+
+    @Nested
+    class DeleteFamilyTests {
+        @Test
+        void deleteFamily_shouldOnlyRemoveThatFamily() {
+            persistToken("hash-1", Instant.now().plus(1, ChronoUnit.DAYS));
+            entityManager.persistAndFlush(RefreshToken.builder()
+                    .tokenHash("hash-2")
+                    .familyId("other-family")
+                    .user(user)
+                    .expiresAt(Instant.now().plus(1, ChronoUnit.DAYS))
+                    .build());
+
+            assertEquals(1, refreshTokenRepository.deleteFamily(FAMILY_ID));
+            entityManager.clear();
+
+            assertTrue(refreshTokenRepository.findByTokenHash("hash-1").isEmpty());
+            assertTrue(refreshTokenRepository.findByTokenHash("hash-2").isPresent());
+        }
+    }
+
+    @Nested
+    class RevokeAllByUserTests {
+        @Test
+        void revokeAllByUserId_shouldRevokeEveryFamily() {
+            persistToken("hash-1", Instant.now().plus(1, ChronoUnit.DAYS));
+            entityManager.persistAndFlush(RefreshToken.builder()
+                    .tokenHash("hash-2")
+                    .familyId("other-family")
+                    .user(user)
+                    .expiresAt(Instant.now().plus(1, ChronoUnit.DAYS))
+                    .build());
+
+            assertEquals(2, refreshTokenRepository.revokeAllByUserId(user.getId()));
+        }
+    }
+
+    @Nested
+    class PurgeTests {
+        @Test
+        void deleteExpiredBefore_shouldKeepLiveTokens() {
+            persistToken("expired", Instant.now().minus(1, ChronoUnit.DAYS));
+            persistToken("live", Instant.now().plus(1, ChronoUnit.DAYS));
+
+            assertEquals(1, refreshTokenRepository.deleteExpiredBefore(Instant.now()));
+            assertTrue(refreshTokenRepository.findByTokenHash("live").isPresent());
+        }
+    }
+
+    private RefreshToken persistToken(String tokenHash, Instant expiresAt) {
+        return entityManager.persistAndFlush(RefreshToken.builder()
+                .tokenHash(tokenHash)
+                .familyId(FAMILY_ID)
+                .user(user)
+                .expiresAt(expiresAt)
+                .build());
+    }
+}
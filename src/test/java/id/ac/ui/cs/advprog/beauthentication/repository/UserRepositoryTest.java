@@ -10,10 +10,14 @@ import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -58,40 +62,27 @@ class UserRepositoryTest {
     }
 
     @Nested
-    class ExistsByEmailTests {
+    class FindByEmailInTests {
         @Test
-        void whenUserExists_shouldReturnTrue() {
+        void whenSomeUsersExist_shouldReturnOnlyMatchingUsers() {
             persistTestUser();
 
-            boolean exists = userRepository.existsByEmail(TEST_EMAIL);
+            List<User> found = userRepository.findByEmailIn(List.of(TEST_EMAIL, "nonexistent@example.com"));
 
-            assertTrue(exists);
-        }
-
-        @Test
-        void whenUserDoesNotExist_shouldReturnFalse() {
-            boolean exists = userRepository.existsByEmail("nonexistent@example.com");
-
-            assertFalse(exists);
+            assertEquals(1, found.size());
+            assertEquals(TEST_EMAIL, found.get(0).getEmail());
         }
     }
 
     @Nested
-    class ExistsByNikTests {
-        @Test
-        void whenUserExists_shouldReturnTrue() {
-            persistTestUser();
-
-            boolean exists = userRepository.existsByNik(TEST_NIK);
-
-            assertTrue(exists);
-        }
-
+    class StreamTests {
         @Test
-        void whenUserDoesNotExist_shouldReturnFalse() {
-            boolean exists = userRepository.existsByNik("9876543210987654");
+        void streamAllIds_shouldReturnEveryUserId() {
+            User user = persistTestUser();
 
-            assertFalse(exists);
+            try (Stream<String> ids = userRepository.streamAllIds()) {
+                assertEquals(List.of(user.getId()), ids.toList());
+            }
         }
     }
 
@@ -116,6 +107,28 @@ class UserRepositoryTest {
             });
         }
 
+        @Test
+        void whenDuplicateEmail_shouldReportNamedConstraint() {
+            persistTestUser();
+
+            User duplicateEmailUser = createUserWithDuplicateEmail();
+
+            DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class,
+                    () -> userRepository.saveAndFlush(duplicateEmailUser));
+            assertTrue(exception.getMostSpecificCause().getMessage().toLowerCase().contains(User.EMAIL_CONSTRAINT));
+        }
+
+        @Test
+        void whenDuplicateNik_shouldReportNamedConstraint() {
+            persistTestUser();
+
+            User duplicateNikUser = createUserWithDuplicateNik();
+
+            DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class,
+                    () -> userRepository.saveAndFlush(duplicateNikUser));
+            assertTrue(exception.getMostSpecificCause().getMessage().toLowerCase().contains(User.NIK_CONSTRAINT));
+        }
+
         @Test
         void whenDuplicateNik_shouldFailWithConstraintViolation() {
             persistTestUser();
@@ -248,6 +261,76 @@ class UserRepositoryTest {
         }
     }
 
+    @Nested
+    class TokenVersionTests {
+        @Test
+        void newUser_shouldStartAtVersionZero() {
+            User persistedUser = persistTestUser();
+
+            assertEquals(Optional.of(0), userRepository.findTokenVersionById(persistedUser.getId()));
+        }
+
+        @Test
+        void incrementTokenVersion_shouldBumpStoredVersion() {
+            User persistedUser = persistTestUser();
+
+            assertEquals(1, userRepository.incrementTokenVersion(persistedUser.getId()));
+            assertEquals(1, userRepository.incrementTokenVersion(persistedUser.getId()));
+
+            assertEquals(Optional.of(2), userRepository.findTokenVersionById(persistedUser.getId()));
+        }
+
+        @Test
+        void save_shouldNotOverwriteTokenVersion() {
+            User persistedUser = persistTestUser();
+            userRepository.incrementTokenVersion(persistedUser.getId());
+
+            persistedUser.setName("Renamed User");
+            userRepository.saveAndFlush(persistedUser);
+
+            assertEquals(Optional.of(1), userRepository.findTokenVersionById(persistedUser.getId()));
+        }
+
+        @Test
+        void findTokenVersionById_whenUserDoesNotExist_shouldReturnEmpty() {
+            assertTrue(userRepository.findTokenVersionById(UUID.randomUUID().toString()).isEmpty());
+        }
+    }
+
+    @Nested
+    class LoginFailureTests {
+        @Test
+        void updateLoginFailures_shouldStoreCountAndLock() {
+            persistTestUser();
+            Instant lockedUntil = Instant.now().plusSeconds(900).truncatedTo(ChronoUnit.MILLIS);
+
+            assertEquals(1, userRepository.updateLoginFailures(TEST_EMAIL, 10, lockedUntil));
+            entityManager.clear();
+
+            User found = userRepository.findByEmail(TEST_EMAIL).orElseThrow();
+            assertEquals(10, found.getFailedLoginAttempts());
+            assertEquals(lockedUntil, found.getLockedUntil());
+            assertFalse(found.isAccountNonLocked());
+        }
+
+        @Test
+        void updateLoginFailures_whenUserDoesNotExist_shouldUpdateNothing() {
+            assertEquals(0, userRepository.updateLoginFailures("nonexistent@example.com", 1, null));
+        }
+
+        @Test
+        void save_shouldNotOverwriteLoginFailures() {
+            User persistedUser = persistTestUser();
+            userRepository.updateLoginFailures(TEST_EMAIL, 3, null);
+
+            persistedUser.setName("Renamed User");
+            userRepository.saveAndFlush(persistedUser);
+            entityManager.clear();
+
+            assertEquals(3, userRepository.findByEmail(TEST_EMAIL).orElseThrow().getFailedLoginAttempts());
+        }
+    }
+
     private User createTestUser() {
         return User.builder()
                 .email(TEST_EMAIL)
@@ -0,0 +1,117 @@
+package id.ac.ui.cs.advprog.beauthentication.security;
+
+import id.ac.ui.cs.advprog.beauthentication.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BoundedPasswordEncoderTest {
+
+    private PasswordEncoder delegate;
+    private Timer queueTimer;
+    private Timer hashTimer;
+    private Counter rejectionCounter;
+    private BoundedPasswordEncoder boundedPasswordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        delegate = mock(PasswordEncoder.class);
+        queueTimer = meterRegistry.timer("queue");
+        hashTimer = meterRegistry.timer("hash");
+        rejectionCounter = meterRegistry.counter("rejected");
+        boundedPasswordEncoder = new BoundedPasswordEncoder(
+                delegate, 1, 1, 2, queueTimer, hashTimer, rejectionCounter);
+    }
+
+    @AfterEach
+    void tearDown() {
+        boundedPasswordEncoder.close();
+    }
+
+    @Nested
+    class DelegationTests {
+        @Test
+        void encodeRunsDelegateAndRecordsTimers() {
+            when(delegate.encode("password")).thenReturn("hashed");
+
+            assertEquals("hashed", boundedPasswordEncoder.encode("password"));
+            assertEquals(1, queueTimer.count());
+            assertEquals(1, hashTimer.count());
+        }
+
+        @Test
+        void matchesRunsDelegate() {
+            when(delegate.matches("password", "hashed")).thenReturn(true);
+
+            assertTrue(boundedPasswordEncoder.matches("password", "hashed"));
+        }
+
+        @Test
+        void delegateExceptionIsRethrown() {
+            when(delegate.encode(any())).thenThrow(new IllegalArgumentException("bad input"));
+
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> boundedPasswordEncoder.encode("password"));
+            assertEquals("bad input", exception.getMessage());
+        }
+    }
+
+    @Nested
+    class SaturationTests {
+        @Test
+        void saturatedExecutorRejectsWithRetryAfter() throws Exception {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            when(delegate.encode("slow")).thenAnswer(invocation -> {
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return "hashed";
+            });
+            when(delegate.encode("queued")).thenReturn("hashed");
+
+            CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> boundedPasswordEncoder.encode("slow"));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> boundedPasswordEncoder.encode("queued"));
+            waitForQueuedTask();
+
+            ServiceOverloadedException exception = assertThrows(ServiceOverloadedException.class,
+                    () -> boundedPasswordEncoder.encode("rejected"));
+
+            release.countDown();
+            assertEquals("hashed", running.get(5, TimeUnit.SECONDS));
+            assertEquals("hashed", queued.get(5, TimeUnit.SECONDS));
+            assertEquals(2, exception.getRetryAfterSeconds());
+            assertEquals(1, rejectionCounter.count());
+        }
+    }
+
+    private void waitForQueuedTask() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!isQueueFull() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private boolean isQueueFull() {
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ReflectionTestUtils.getField(boundedPasswordEncoder, "executor");
+        return executor.getQueue().size() == 1;
+    }
+}
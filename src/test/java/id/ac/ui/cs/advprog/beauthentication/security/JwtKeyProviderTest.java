@@ -0,0 +1,208 @@
+package id.ac.ui.cs.advprog.beauthentication.security;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtKeyProviderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Nested
+    class SymmetricTests {
+        @Test
+        void hs256PublishesNoKeys() {
+            JwtKeyProvider keyProvider = createProvider("HS256", "", "", "");
+
+            assertFalse(keyProvider.isAsymmetric());
+            assertNull(keyProvider.currentKey());
+            assertEquals(List.of(), keyProvider.jwks().get("keys"));
+        }
+
+        @Test
+        void unsupportedAlgorithmIsRejected() {
+            assertThrows(IllegalArgumentException.class, () -> createProvider("HS512", "", "", ""));
+        }
+    }
+
+    @Nested
+    class AsymmetricTests {
+        @Test
+        void rs256PublishesRsaJwk() {
+            JwtKeyProvider keyProvider = createProvider("RS256", "", "", "");
+
+            Map<String, Object> jwk = onlyKey(keyProvider);
+
+            assertEquals("RSA", jwk.get("kty"));
+            assertEquals("RS256", jwk.get("alg"));
+            assertEquals("sig", jwk.get("use"));
+            assertEquals("AQAB", jwk.get("e"));
+            assertEquals(keyProvider.currentKey().keyId(), jwk.get("kid"));
+            assertTrue(keyProvider.findVerificationKey(keyProvider.currentKey().keyId()).isPresent());
+            assertTrue(keyProvider.findVerificationKey("other").isEmpty());
+        }
+
+        @Test
+        void es256PublishesFixedLengthCoordinates() {
+            JwtKeyProvider keyProvider = createProvider("ES256", "configured-kid", "", "");
+
+            Map<String, Object> jwk = onlyKey(keyProvider);
+
+            assertEquals("EC", jwk.get("kty"));
+            assertEquals("P-256", jwk.get("crv"));
+            assertEquals("configured-kid", jwk.get("kid"));
+            assertEquals(43, ((String) jwk.get("x")).length());
+            assertEquals(43, ((String) jwk.get("y")).length());
+        }
+
+        @Test
+        void keyPairIsLoadedFromPemFiles() throws IOException {
+            JwtSigningKey generated = JwtSigningKey.generate(JwtSigningKey.parseAlgorithm("RS256"), null);
+            Path privateKey = writePem("private.pem", "PRIVATE KEY", generated.privateKey().getEncoded());
+            Path publicKey = writePem("public.pem", "PUBLIC KEY", generated.publicKey().getEncoded());
+
+            JwtKeyProvider keyProvider = createProvider("RS256", "",
+                    "file:" + privateKey, "file:" + publicKey);
+
+            assertEquals(generated.keyId(), keyProvider.currentKey().keyId());
+            assertEquals(generated.publicKey(), keyProvider.currentKey().publicKey());
+        }
+
+        @Test
+        void mismatchedKeyTypeIsRejected() throws IOException {
+            JwtSigningKey generated = JwtSigningKey.generate(JwtSigningKey.parseAlgorithm("RS256"), null);
+            Path privateKey = writePem("private.pem", "PRIVATE KEY", generated.privateKey().getEncoded());
+            Path publicKey = writePem("public.pem", "PUBLIC KEY", generated.publicKey().getEncoded());
+
+            assertThrows(IllegalStateException.class, () -> createProvider("ES256", "",
+                    "file:" + privateKey, "file:" + publicKey));
+        }
+    }
+
+    @Nested
+    class KeyRingTests {
+        @Test
+        void keyRingSignsWithCurrentAndVerifiesWithPrevious() throws IOException {
+            JwtSigningKey previous = generate("RS256");
+            JwtSigningKey current = generate("ES256");
+            Path keyRing = writeKeyRing("current", entry("previous", previous, false), entry("current", current, true));
+
+            JwtKeyProvider keyProvider = createKeyRingProvider(keyRing);
+
+            assertTrue(keyProvider.isAsymmetric());
+            assertEquals("current", keyProvider.currentKey().keyId());
+            assertEquals(current.publicKey(), keyProvider.findVerificationKey("current").orElseThrow());
+            assertEquals(previous.publicKey(), keyProvider.findVerificationKey("previous").orElseThrow());
+            assertTrue(keyProvider.findVerificationKey(null).isEmpty());
+            assertEquals(List.of("current", "previous"), keyIds(keyProvider));
+        }
+
+        @Test
+        void reloadIfChangedPicksUpRotatedKeyRing() throws IOException {
+            JwtSigningKey first = generate("RS256");
+            JwtSigningKey second = generate("RS256");
+            Path keyRing = writeKeyRing("first", entry("first", first, true));
+            JwtKeyProvider keyProvider = createKeyRingProvider(keyRing);
+            JwtSigningKey loaded = keyProvider.currentKey();
+
+            keyProvider.reloadIfChanged();
+            assertSame(loaded, keyProvider.currentKey());
+
+            writeKeyRing("second", entry("first", first, false), entry("second", second, true));
+            Files.setLastModifiedTime(keyRing, FileTime.fromMillis(Files.getLastModifiedTime(keyRing).toMillis() + 1000));
+            keyProvider.reloadIfChanged();
+
+            assertEquals("second", keyProvider.currentKey().keyId());
+            assertTrue(keyProvider.findVerificationKey("first").isPresent());
+        }
+
+        @Test
+        void reloadIfChangedKeepsKeyRingWhenFileIsInvalid() throws IOException {
+            Path keyRing = writeKeyRing("first", entry("first", generate("RS256"), true));
+            JwtKeyProvider keyProvider = createKeyRingProvider(keyRing);
+
+            Files.writeString(keyRing, "{\"current\":\"missing\",\"keys\":[]}");
+            Files.setLastModifiedTime(keyRing, FileTime.fromMillis(Files.getLastModifiedTime(keyRing).toMillis() + 1000));
+            keyProvider.reloadIfChanged();
+
+            assertEquals("first", keyProvider.currentKey().keyId());
+        }
+
+        @Test
+        void keyRingWithoutCurrentPrivateKeyIsRejected() throws IOException {
+            Path keyRing = writeKeyRing("first", entry("first", generate("RS256"), false));
+
+            assertThrows(IllegalStateException.class, () -> createKeyRingProvider(keyRing));
+        }
+
+        @Test
+        void keyRingWithDuplicateKeyIdsIsRejected() throws IOException {
+            Path keyRing = writeKeyRing("first",
+                    entry("first", generate("RS256"), true), entry("first", generate("RS256"), false));
+
+            assertThrows(IllegalStateException.class, () -> createKeyRingProvider(keyRing));
+        }
+
+        private JwtKeyProvider createKeyRingProvider(Path keyRing) {
+            return new JwtKeyProvider("HS256", "", "", "", "file:" + keyRing, new DefaultResourceLoader());
+        }
+
+        private JwtSigningKey generate(String algorithm) {
+            return JwtSigningKey.generate(JwtSigningKey.parseAlgorithm(algorithm), null);
+        }
+
+        private String entry(String keyId, JwtSigningKey key, boolean includePrivateKey) {
+            String privateKey = includePrivateKey
+                    ? ",\"privateKey\":\"" + pem("PRIVATE KEY", key.privateKey().getEncoded()).replace("\n", "\\n") + "\""
+                    : "";
+            return "{\"kid\":\"" + keyId + "\",\"alg\":\"" + key.algorithm().getValue() + "\""
+                    + ",\"publicKey\":\"" + pem("PUBLIC KEY", key.publicKey().getEncoded()).replace("\n", "\\n") + "\""
+                    + privateKey + "}";
+        }
+
+        private Path writeKeyRing(String current, String... entries) throws IOException {
+            return Files.writeString(tempDir.resolve("keyring.json"),
+                    "{\"current\":\"" + current + "\",\"keys\":[" + String.join(",", entries) + "]}");
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<Object> keyIds(JwtKeyProvider keyProvider) {
+            return ((List<Map<String, Object>>) keyProvider.jwks().get("keys")).stream()
+                    .map(jwk -> jwk.get("kid"))
+                    .toList();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> onlyKey(JwtKeyProvider keyProvider) {
+        List<Map<String, Object>> keys = (List<Map<String, Object>>) keyProvider.jwks().get("keys");
+        assertEquals(1, keys.size());
+        return keys.get(0);
+    }
+
+    private JwtKeyProvider createProvider(String algorithm, String keyId, String privateKey, String publicKey) {
+        return new JwtKeyProvider(algorithm, keyId, privateKey, publicKey, "", new DefaultResourceLoader());
+    }
+
+    private Path writePem(String fileName, String type, byte[] der) throws IOException {
+        return Files.writeString(tempDir.resolve(fileName), pem(type, der));
+    }
+
+    private static String pem(String type, byte[] der) {
+        return "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder(64, "\n".getBytes()).encodeToString(der)
+                + "\n-----END " + type + "-----\n";
+    }
+}
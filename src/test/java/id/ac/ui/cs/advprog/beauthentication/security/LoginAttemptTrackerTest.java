@@ -0,0 +1,218 @@
+package id.ac.ui.cs.advprog.beauthentication.security;
+
+import id.ac.ui.cs.advprog.beauthentication.model.User;
+import id.ac.ui.cs.advprog.beauthentication.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class LoginAttemptTrackerTest {
+
+    private static final String EMAIL = "user@example.com";
+    private static final long LOCK_DURATION = 60000;
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    private UserRepository userRepository;
+    private Counter lockoutCounter;
+    private MutableClock clock;
+    private LoginAttemptTracker loginAttemptTracker;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        lockoutCounter = new SimpleMeterRegistry().counter("lockout");
+        clock = new MutableClock(NOW);
+        loginAttemptTracker = new LoginAttemptTracker(3, LOCK_DURATION, 100, userRepository, lockoutCounter, clock);
+    }
+
+    @Nested
+    class LockoutTests {
+        @Test
+        void accountLocksAfterMaxFailures() {
+            loginAttemptTracker.recordFailure(EMAIL);
+            loginAttemptTracker.recordFailure(EMAIL);
+            assertFalse(loginAttemptTracker.isLocked(EMAIL));
+
+            loginAttemptTracker.recordFailure(EMAIL);
+
+            assertTrue(loginAttemptTracker.isLocked(EMAIL));
+            assertEquals(1, lockoutCounter.count());
+        }
+
+        @Test
+        void lockExpiresAfterDuration() {
+            lock(EMAIL);
+
+            clock.advance(LOCK_DURATION);
+
+            assertFalse(loginAttemptTracker.isLocked(EMAIL));
+        }
+
+        @Test
+        void failureAfterExpiredLockStartsNewCount() {
+            lock(EMAIL);
+            clock.advance(LOCK_DURATION);
+
+            loginAttemptTracker.recordFailure(EMAIL);
+
+            assertFalse(loginAttemptTracker.isLocked(EMAIL));
+        }
+
+        @Test
+        void successClearsFailures() {
+            loginAttemptTracker.recordFailure(EMAIL);
+            loginAttemptTracker.recordFailure(EMAIL);
+
+            loginAttemptTracker.recordSuccess(createUser(0, null));
+            loginAttemptTracker.recordFailure(EMAIL);
+
+            assertFalse(loginAttemptTracker.isLocked(EMAIL));
+        }
+
+        @Test
+        void unknownOrNullEmailIsNotLocked() {
+            assertFalse(loginAttemptTracker.isLocked(EMAIL));
+            assertFalse(loginAttemptTracker.isLocked(null));
+        }
+    }
+
+    @Nested
+    class WriteBehindTests {
+        @Test
+        void failuresAreNotWrittenSynchronously() {
+            lock(EMAIL);
+
+            verifyNoInteractions(userRepository);
+            assertEquals(1, loginAttemptTracker.pendingWriteCount());
+        }
+
+        @Test
+        void flushCoalescesFailuresIntoOneUpdate() {
+            lock(EMAIL);
+
+            loginAttemptTracker.flush();
+
+            verify(userRepository, times(1)).updateLoginFailures(EMAIL, 3, NOW.plusMillis(LOCK_DURATION));
+            assertEquals(0, loginAttemptTracker.pendingWriteCount());
+        }
+
+        @Test
+        void successForCleanUserWritesNothing() {
+            loginAttemptTracker.recordSuccess(createUser(0, null));
+
+            loginAttemptTracker.flush();
+
+            verifyNoInteractions(userRepository);
+        }
+
+        @Test
+        void successForPersistedFailuresResetsStoredState() {
+            loginAttemptTracker.recordSuccess(createUser(2, NOW.minusSeconds(1)));
+
+            loginAttemptTracker.flush();
+
+            verify(userRepository).updateLoginFailures(EMAIL, 0, null);
+        }
+
+        @Test
+        void failuresBelowThresholdAreNotPersisted() {
+            loginAttemptTracker.recordFailure(EMAIL);
+            loginAttemptTracker.recordFailure(EMAIL);
+
+            loginAttemptTracker.flush();
+
+            verifyNoInteractions(userRepository);
+            assertEquals(0, loginAttemptTracker.pendingWriteCount());
+        }
+
+        @Test
+        void sprayedUnknownEmailsCauseNoWrites() {
+            for (int i = 0; i < 1000; i++) {
+                loginAttemptTracker.recordFailure("unknown-" + i + "@example.com");
+            }
+
+            loginAttemptTracker.flush();
+
+            verifyNoInteractions(userRepository);
+        }
+
+        @Test
+        void successAfterUnflushedLockOverwritesPendingWrite() {
+            lock(EMAIL);
+            clock.advance(LOCK_DURATION);
+
+            loginAttemptTracker.recordSuccess(createUser(0, null));
+            loginAttemptTracker.flush();
+
+            verify(userRepository).updateLoginFailures(EMAIL, 0, null);
+            verifyNoMoreInteractions(userRepository);
+        }
+
+        @Test
+        void failedFlushIsRetried() {
+            lock(EMAIL);
+            when(userRepository.updateLoginFailures(anyString(), anyInt(), any()))
+                    .thenThrow(new IllegalStateException("database unavailable"))
+                    .thenReturn(1);
+
+            loginAttemptTracker.flush();
+            assertEquals(1, loginAttemptTracker.pendingWriteCount());
+
+            loginAttemptTracker.flush();
+            assertEquals(0, loginAttemptTracker.pendingWriteCount());
+            verify(userRepository, times(2)).updateLoginFailures(EMAIL, 3, NOW.plusMillis(LOCK_DURATION));
+        }
+    }
+
+    private void lock(String email) {
+        for (int i = 0; i < 3; i++) {
+            loginAttemptTracker.recordFailure(email);
+        }
+    }
+
+    private User createUser(int failedLoginAttempts, Instant lockedUntil) {
+        return User.builder()
+                .email(EMAIL)
+                .failedLoginAttempts(failedLoginAttempts)
+                .lockedUntil(lockedUntil)
+                .build();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(long millis) {
+            instant = instant.plusMillis(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
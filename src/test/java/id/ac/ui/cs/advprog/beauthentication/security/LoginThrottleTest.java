@@ -0,0 +1,77 @@
+package id.ac.ui.cs.advprog.beauthentication.security;
+
+import id.ac.ui.cs.advprog.beauthentication.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginThrottleTest {
+
+    private static final String EMAIL = "user@example.com";
+    private static final String CLIENT = "10.0.0.1";
+
+    private Counter emailCounter;
+    private Counter clientCounter;
+    private LoginThrottle loginThrottle;
+
+    @BeforeEach
+    void setUp() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        emailCounter = meterRegistry.counter("email");
+        clientCounter = meterRegistry.counter("client");
+        loginThrottle = new LoginThrottle(2, 60000, 4, 60000, 10, 100, emailCounter, clientCounter);
+    }
+
+    @Nested
+    class EmailLimitTests {
+        @Test
+        void emailOverLimitIsThrottledWithRetryAfter() {
+            loginThrottle.checkAllowed(EMAIL, CLIENT);
+            loginThrottle.checkAllowed(EMAIL, "10.0.0.2");
+
+            TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                    () -> loginThrottle.checkAllowed(EMAIL, "10.0.0.3"));
+
+            assertTrue(exception.getRetryAfterSeconds() >= 1);
+            assertTrue(exception.getRetryAfterSeconds() <= 60);
+            assertEquals(1, emailCounter.count());
+            assertEquals(0, clientCounter.count());
+        }
+
+        @Test
+        void emailIsNormalizedBeforeCounting() {
+            loginThrottle.checkAllowed(EMAIL, CLIENT);
+            loginThrottle.checkAllowed(" User@Example.com ", CLIENT);
+
+            assertThrows(TooManyRequestsException.class, () -> loginThrottle.checkAllowed("USER@EXAMPLE.COM", CLIENT));
+        }
+    }
+
+    @Nested
+    class ClientLimitTests {
+        @Test
+        void clientOverLimitIsThrottledAcrossEmails() {
+            for (int i = 0; i < 4; i++) {
+                loginThrottle.checkAllowed("user" + i + "@example.com", CLIENT);
+            }
+
+            assertThrows(TooManyRequestsException.class, () -> loginThrottle.checkAllowed("other@example.com", CLIENT));
+            assertEquals(1, clientCounter.count());
+            assertEquals(0, emailCounter.count());
+        }
+
+        @Test
+        void missingClientAddressOnlyAppliesEmailLimit() {
+            for (int i = 0; i < 6; i++) {
+                loginThrottle.checkAllowed("user" + i + "@example.com", null);
+            }
+
+            assertEquals(0, clientCounter.count());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package id.ac.ui.cs.advprog.beauthentication.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongHashSetTest {
+
+    @Test
+    void addAndContainsAcrossResizes() {
+        LongHashSet set = new LongHashSet(2);
+
+        for (long i = -500; i < 500; i++) {
+            assertTrue(set.add(i * 0x9E3779B97F4A7C15L));
+        }
+
+        for (long i = -500; i < 500; i++) {
+            assertTrue(set.contains(i * 0x9E3779B97F4A7C15L));
+        }
+        assertFalse(set.contains(12345L));
+        assertEquals(1000, set.size());
+    }
+
+    @Test
+    void addDuplicateReturnsFalse() {
+        LongHashSet set = new LongHashSet(4);
+
+        assertTrue(set.add(42L));
+        assertFalse(set.add(42L));
+        assertEquals(1, set.size());
+    }
+}
@@ -0,0 +1,153 @@
+package id.ac.ui.cs.advprog.beauthentication.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlidingWindowRateLimiterTest {
+
+    private static final String KEY = "user@example.com";
+    private static final long WINDOW = 10000;
+
+    private AtomicLong clock;
+    private SlidingWindowRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(1_000_000);
+        rateLimiter = new SlidingWindowRateLimiter(3, WINDOW, 10, 100, clock::get);
+    }
+
+    @Nested
+    class AcquireTests {
+        @Test
+        void attemptsWithinLimitAreAllowed() {
+            assertEquals(0, rateLimiter.tryAcquire(KEY));
+            assertEquals(0, rateLimiter.tryAcquire(KEY));
+            assertEquals(0, rateLimiter.tryAcquire(KEY));
+        }
+
+        @Test
+        void attemptsOverLimitReturnRetryAfter() {
+            exhaust(KEY);
+
+            long retryAfter = rateLimiter.tryAcquire(KEY);
+
+            assertTrue(retryAfter > 0);
+            assertTrue(retryAfter <= WINDOW);
+        }
+
+        @Test
+        void keysAreLimitedIndependently() {
+            exhaust(KEY);
+
+            assertEquals(0, rateLimiter.tryAcquire("other@example.com"));
+        }
+
+        @Test
+        void invalidConfigurationIsRejected() {
+            assertThrows(IllegalArgumentException.class, () -> new SlidingWindowRateLimiter(0, WINDOW, 10, 100));
+        }
+    }
+
+    @Nested
+    class WindowTests {
+        @Test
+        void attemptsAreAllowedAgainAfterRetryAfter() {
+            exhaust(KEY);
+            long retryAfter = rateLimiter.tryAcquire(KEY);
+
+            clock.addAndGet(retryAfter);
+
+            assertEquals(0, rateLimiter.tryAcquire(KEY));
+        }
+
+        @Test
+        void windowSlidesBucketByBucket() {
+            rateLimiter.tryAcquire(KEY);
+            clock.addAndGet(5000);
+            rateLimiter.tryAcquire(KEY);
+            rateLimiter.tryAcquire(KEY);
+            assertTrue(rateLimiter.tryAcquire(KEY) > 0);
+
+            clock.addAndGet(5000);
+
+            assertEquals(0, rateLimiter.tryAcquire(KEY));
+            assertTrue(rateLimiter.tryAcquire(KEY) > 0);
+        }
+
+        @Test
+        void concurrentAttemptsDoNotLoseCounts() throws Exception {
+            SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(1000, WINDOW, 10, 100, clock::get);
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < 8; i++) {
+                    futures.add(executor.submit(() -> {
+                        for (int j = 0; j < 100; j++) {
+                            limiter.tryAcquire(KEY);
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdown();
+            }
+
+            for (int i = 0; i < 200; i++) {
+                assertEquals(0, limiter.tryAcquire(KEY));
+            }
+            assertTrue(limiter.tryAcquire(KEY) > 0);
+        }
+
+        @Test
+        void concurrentBurstAdmitsExactlyLimit() throws Exception {
+            int limit = 50;
+            int attempts = 400;
+            SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(limit, WINDOW, 10, 100, clock::get);
+            ExecutorService executor = Executors.newFixedThreadPool(16);
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicInteger admitted = new AtomicInteger();
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < attempts; i++) {
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        if (limiter.tryAcquire(KEY) == 0) {
+                            admitted.incrementAndGet();
+                        }
+                        return null;
+                    }));
+                }
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdown();
+            }
+
+            assertEquals(limit, admitted.get());
+            assertTrue(limiter.tryAcquire(KEY) > 0);
+        }
+    }
+
+    private void exhaust(String key) {
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire(key);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package id.ac.ui.cs.advprog.beauthentication.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketRateLimiterTest {
+
+    private static final String KEY = "search 10.0.0.1";
+
+    private AtomicLong clock;
+    private TokenBucketRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+        rateLimiter = new TokenBucketRateLimiter(10, 3, 100, clock::get);
+    }
+
+    @Nested
+    class BurstTests {
+        @Test
+        void burstIsAllowedThenLimited() {
+            assertEquals(0, rateLimiter.tryAcquire(KEY));
+            assertEquals(0, rateLimiter.tryAcquire(KEY));
+            assertEquals(0, rateLimiter.tryAcquire(KEY));
+
+            assertEquals(100, rateLimiter.tryAcquire(KEY));
+        }
+
+        @Test
+        void keysHaveIndependentBuckets() {
+            exhaust();
+
+            assertEquals(0, rateLimiter.tryAcquire("search 10.0.0.2"));
+        }
+
+        @Test
+        void invalidConfigurationIsRejected() {
+            assertThrows(IllegalArgumentException.class, () -> new TokenBucketRateLimiter(0, 1, 100));
+            assertThrows(IllegalArgumentException.class, () -> new TokenBucketRateLimiter(1, 0, 100));
+        }
+    }
+
+    @Nested
+    class RefillTests {
+        @Test
+        void tokensRefillAtConfiguredRate() {
+            exhaust();
+
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+
+            assertEquals(0, rateLimiter.tryAcquire(KEY));
+            assertTrue(rateLimiter.tryAcquire(KEY) > 0);
+        }
+
+        @Test
+        void idleBucketRefillsOnlyUpToBurst() {
+            exhaust();
+
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+            exhaust();
+            assertTrue(rateLimiter.tryAcquire(KEY) > 0);
+        }
+
+        @Test
+        void rejectedAttemptsDoNotConsumeTokens() {
+            exhaust();
+            for (int i = 0; i < 10; i++) {
+                rateLimiter.tryAcquire(KEY);
+            }
+
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+
+            assertEquals(0, rateLimiter.tryAcquire(KEY));
+        }
+    }
+
+    private void exhaust() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, rateLimiter.tryAcquire(KEY));
+        }
+    }
+}
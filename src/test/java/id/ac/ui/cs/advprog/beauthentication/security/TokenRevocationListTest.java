@@ -0,0 +1,101 @@
+package id.ac.ui.cs.advprog.beauthentication.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenRevocationListTest {
+
+    private static final long BUCKET_MILLIS = 1000;
+
+    private Counter tokenRevocationCounter;
+    private TokenRevocationList tokenRevocationList;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationCounter = new SimpleMeterRegistry().counter("revoked");
+        tokenRevocationList = new TokenRevocationList(BUCKET_MILLIS, tokenRevocationCounter);
+    }
+
+    @Nested
+    class RevocationTests {
+        @Test
+        void revokedTokenIsReported() {
+            Date expiration = expiresIn(60000);
+
+            tokenRevocationList.revoke("token-id", expiration);
+
+            assertTrue(tokenRevocationList.isRevoked("token-id", expiration));
+            assertFalse(tokenRevocationList.isRevoked("other-id", expiration));
+            assertEquals(1, tokenRevocationCounter.count());
+        }
+
+        @Test
+        void revokingTwiceCountsOnce() {
+            Date expiration = expiresIn(60000);
+
+            tokenRevocationList.revoke("token-id", expiration);
+            tokenRevocationList.revoke("token-id", expiration);
+
+            assertEquals(1, tokenRevocationList.size());
+            assertEquals(1, tokenRevocationCounter.count());
+        }
+
+        @Test
+        void tokensWithoutIdOrExpiryAreIgnored() {
+            tokenRevocationList.revoke(null, expiresIn(60000));
+            tokenRevocationList.revoke("token-id", null);
+
+            assertFalse(tokenRevocationList.isRevoked(null, expiresIn(60000)));
+            assertFalse(tokenRevocationList.isRevoked("token-id", null));
+            assertEquals(0, tokenRevocationList.size());
+        }
+
+        @Test
+        void alreadyExpiredTokensAreNotStored() {
+            tokenRevocationList.revoke("token-id", expiresIn(-1000));
+
+            assertEquals(0, tokenRevocationList.size());
+        }
+
+        @Test
+        void manyRevocationsRemainVisible() {
+            Date expiration = expiresIn(60000);
+            String[] tokenIds = new String[1000];
+            for (int i = 0; i < tokenIds.length; i++) {
+                tokenIds[i] = UUID.randomUUID().toString();
+                tokenRevocationList.revoke(tokenIds[i], expiration);
+            }
+
+            for (String tokenId : tokenIds) {
+                assertTrue(tokenRevocationList.isRevoked(tokenId, expiration));
+            }
+            assertEquals(tokenIds.length, tokenRevocationList.size());
+        }
+    }
+
+    @Nested
+    class PurgeTests {
+        @Test
+        void purgeDropsBucketsPastExpiry() throws InterruptedException {
+            tokenRevocationList.revoke("short-lived", expiresIn(50));
+            tokenRevocationList.revoke("long-lived", expiresIn(60000));
+
+            Thread.sleep(BUCKET_MILLIS + 100);
+            tokenRevocationList.purgeExpired();
+
+            assertEquals(1, tokenRevocationList.size());
+        }
+    }
+
+    private Date expiresIn(long millis) {
+        return new Date(System.currentTimeMillis() + millis);
+    }
+}
@@ -0,0 +1,137 @@
+package id.ac.ui.cs.advprog.beauthentication.security;
+
+import id.ac.ui.cs.advprog.beauthentication.cache.TokenVerificationCache;
+import id.ac.ui.cs.advprog.beauthentication.dto.ValidatedTokenDto;
+import id.ac.ui.cs.advprog.beauthentication.enums.Role;
+import id.ac.ui.cs.advprog.beauthentication.exception.InvalidRefreshTokenException;
+import id.ac.ui.cs.advprog.beauthentication.model.User;
+import id.ac.ui.cs.advprog.beauthentication.repository.RefreshTokenRepository;
+import id.ac.ui.cs.advprog.beauthentication.service.JwtService;
+import id.ac.ui.cs.advprog.beauthentication.service.RefreshTokenService;
+import id.ac.ui.cs.advprog.beauthentication.service.RefreshTokenServiceImpl;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(connection = EmbeddedDatabaseConnection.H2)
+class TokenRevocationLogoutHandlerTest {
+
+    private static final String ACCESS_TOKEN = "access-token";
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private JwtService jwtService;
+    private TokenRevocationList tokenRevocationList;
+    private Counter refreshTokenReuseCounter;
+    private RefreshTokenService refreshTokenService;
+    private TokenRevocationLogoutHandler tokenRevocationLogoutHandler;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = mock(JwtService.class);
+        tokenRevocationList = mock(TokenRevocationList.class);
+        refreshTokenReuseCounter = new SimpleMeterRegistry().counter("reuse");
+        refreshTokenService = new RefreshTokenServiceImpl(refreshTokenRepository, 60000, refreshTokenReuseCounter);
+        tokenRevocationLogoutHandler = new TokenRevocationLogoutHandler(
+                jwtService, tokenRevocationList, mock(TokenVerificationCache.class), refreshTokenService);
+
+        user = entityManager.persistAndFlush(User.builder()
+                .email("test@example.com")
+                .password("password")
+                .name("Test User")
+                .nik("1234567890123456")
+                .address("Test Address")
+                .phoneNumber("1234567890")
+                .role(Role.PACILIAN)
+                .build());
+    }
+
+    @Nested
+    class LogoutTests {
+        @Test
+        void refreshFailsAfterLogout() {
+            RefreshTokenService.IssuedRefreshToken session = refreshTokenService.issue(user);
+            stubAccessToken(session.familyId());
+
+            tokenRevocationLogoutHandler.logout(bearerRequest(), new MockHttpServletResponse(), null);
+            entityManager.clear();
+
+            assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotate(session.refreshToken()));
+            assertEquals(0, refreshTokenReuseCounter.count());
+            verify(tokenRevocationList).revoke(eq("jti"), any(Date.class));
+        }
+
+        @Test
+        void rotatedRefreshTokenFailsAfterLogout() {
+            RefreshTokenService.IssuedRefreshToken session = refreshTokenService.issue(user);
+            RefreshTokenService.RotatedRefreshToken rotated = refreshTokenService.rotate(session.refreshToken());
+            stubAccessToken(rotated.familyId());
+
+            tokenRevocationLogoutHandler.logout(bearerRequest(), new MockHttpServletResponse(), null);
+            entityManager.clear();
+
+            assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotate(rotated.refreshToken()));
+        }
+
+        @Test
+        void otherSessionsKeepRefreshing() {
+            RefreshTokenService.IssuedRefreshToken loggedOut = refreshTokenService.issue(user);
+            RefreshTokenService.IssuedRefreshToken otherDevice = refreshTokenService.issue(user);
+            stubAccessToken(loggedOut.familyId());
+
+            tokenRevocationLogoutHandler.logout(bearerRequest(), new MockHttpServletResponse(), null);
+            entityManager.clear();
+
+            RefreshTokenService.RotatedRefreshToken rotated = refreshTokenService.rotate(otherDevice.refreshToken());
+            assertEquals(otherDevice.familyId(), rotated.familyId());
+        }
+
+        @Test
+        void tokenWithoutSessionOnlyRevokesAccessToken() {
+            RefreshTokenService.IssuedRefreshToken session = refreshTokenService.issue(user);
+            stubAccessToken(null);
+
+            tokenRevocationLogoutHandler.logout(bearerRequest(), new MockHttpServletResponse(), null);
+            entityManager.clear();
+
+            assertNotNull(refreshTokenService.rotate(session.refreshToken()));
+            verify(tokenRevocationList).revoke(eq("jti"), any(Date.class));
+        }
+    }
+
+    private void stubAccessToken(String sessionId) {
+        when(jwtService.parseToken(ACCESS_TOKEN)).thenReturn(ValidatedTokenDto.builder()
+                .tokenId("jti")
+                .subject(user.getEmail())
+                .userId(user.getId())
+                .sessionId(sessionId)
+                .expiration(new Date(System.currentTimeMillis() + 60000))
+                .build());
+    }
+
+    private static MockHttpServletRequest bearerRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/logout");
+        request.addHeader("Authorization", "Bearer " + ACCESS_TOKEN);
+        return request;
+    }
+}
@@ -0,0 +1,88 @@
+package id.ac.ui.cs.advprog.beauthentication.security;
+
+import id.ac.ui.cs.advprog.beauthentication.model.User;
+import id.ac.ui.cs.advprog.beauthentication.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TokenVersionRegistryTest {
+
+    private static final String USER_ID = "user-id";
+
+    private UserRepository userRepository;
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        tokenVersionRegistry = new TokenVersionRegistry(100, 60000, userRepository, new SimpleMeterRegistry());
+    }
+
+    @Nested
+    class LookupTests {
+        @Test
+        void matchingVersionIsCurrent() {
+            when(userRepository.findTokenVersionById(USER_ID)).thenReturn(Optional.of(2));
+
+            assertTrue(tokenVersionRegistry.isCurrent(USER_ID, 2));
+            assertFalse(tokenVersionRegistry.isCurrent(USER_ID, 1));
+        }
+
+        @Test
+        void versionIsLoadedOnce() {
+            when(userRepository.findTokenVersionById(USER_ID)).thenReturn(Optional.of(0));
+
+            tokenVersionRegistry.isCurrent(USER_ID, 0);
+            tokenVersionRegistry.isCurrent(USER_ID, 0);
+
+            verify(userRepository, times(1)).findTokenVersionById(USER_ID);
+        }
+
+        @Test
+        void tokensWithoutVersionAreTreatedAsInitialVersion() {
+            when(userRepository.findTokenVersionById(USER_ID)).thenReturn(Optional.of(0));
+
+            assertTrue(tokenVersionRegistry.isCurrent(USER_ID, null));
+        }
+
+        @Test
+        void unknownUserIsNeverCurrent() {
+            when(userRepository.findTokenVersionById(USER_ID)).thenReturn(Optional.empty());
+
+            assertFalse(tokenVersionRegistry.isCurrent(USER_ID, 0));
+            assertFalse(tokenVersionRegistry.isCurrent(USER_ID, null));
+        }
+
+        @Test
+        void loadedUserIsComparedWithoutQuery() {
+            User user = User.builder().id(USER_ID).tokenVersion(2).build();
+
+            assertTrue(tokenVersionRegistry.matches(user, 2));
+            assertFalse(tokenVersionRegistry.matches(user, 1));
+            assertFalse(tokenVersionRegistry.matches(user, null));
+            verifyNoInteractions(userRepository);
+        }
+    }
+
+    @Nested
+    class BumpTests {
+        @Test
+        void bumpInvalidatesOutstandingVersion() {
+            when(userRepository.findTokenVersionById(USER_ID)).thenReturn(Optional.of(0), Optional.of(1));
+            assertTrue(tokenVersionRegistry.isCurrent(USER_ID, 0));
+
+            tokenVersionRegistry.bump(USER_ID);
+
+            verify(userRepository).incrementTokenVersion(USER_ID);
+            assertFalse(tokenVersionRegistry.isCurrent(USER_ID, 0));
+            assertTrue(tokenVersionRegistry.isCurrent(USER_ID, 1));
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package id.ac.ui.cs.advprog.beauthentication.service;
+
+import id.ac.ui.cs.advprog.beauthentication.cache.NegativeLookupCache;
+import id.ac.ui.cs.advprog.beauthentication.cache.TokenVerificationCache;
+import id.ac.ui.cs.advprog.beauthentication.dto.LoginDto;
+import id.ac.ui.cs.advprog.beauthentication.dto.LoginResponseDto;
+import id.ac.ui.cs.advprog.beauthentication.enums.Role;
+import id.ac.ui.cs.advprog.beauthentication.model.User;
+import id.ac.ui.cs.advprog.beauthentication.repository.CaregiverRepository;
+import id.ac.ui.cs.advprog.beauthentication.repository.PacilianRepository;
+import id.ac.ui.cs.advprog.beauthentication.repository.UserRepository;
+import id.ac.ui.cs.advprog.beauthentication.security.LoginAttemptTracker;
+import id.ac.ui.cs.advprog.beauthentication.security.TokenRevocationList;
+import id.ac.ui.cs.advprog.beauthentication.security.TokenVersionRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.LockedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AuthServiceImplLoginTest {
+
+    private static final String EMAIL = "user@example.com";
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtService jwtService;
+    private RefreshTokenService refreshTokenService;
+    private AuthenticationManager authenticationManager;
+    private LoginAttemptTracker loginAttemptTracker;
+    private AuthServiceImpl authService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        UserRepository userRepository = mock(UserRepository.class);
+        jwtService = mock(JwtService.class);
+        refreshTokenService = mock(RefreshTokenService.class);
+        authenticationManager = mock(AuthenticationManager.class);
+        loginAttemptTracker = mock(LoginAttemptTracker.class);
+
+        authService = new AuthServiceImpl(
+                userRepository,
+                mock(PacilianRepository.class),
+                mock(CaregiverRepository.class),
+                mock(PasswordEncoder.class),
+                jwtService,
+                refreshTokenService,
+                authenticationManager,
+                new TokenVerificationCache(100, 60000,
+                        meterRegistry.counter("hit"), meterRegistry.counter("miss"), meterRegistry.counter("eviction")),
+                mock(TokenRevocationList.class),
+                new TokenVersionRegistry(100, 60000, userRepository, meterRegistry),
+                mock(NegativeLookupCache.class),
+                loginAttemptTracker,
+                meterRegistry.counter("login.success"),
+                meterRegistry.counter("login.failure"),
+                meterRegistry.counter("refresh.success"),
+                meterRegistry.counter("refresh.failure"),
+                meterRegistry.counter("register.pacilian"),
+                meterRegistry.counter("register.caregiver"),
+                meterRegistry.counter("register.pacilian.failure"),
+                meterRegistry.counter("register.caregiver.failure"),
+                meterRegistry.timer("verify"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Nested
+    class LockoutTests {
+        @Test
+        void lockedEmailIsRejectedWithoutAuthenticating() {
+            when(loginAttemptTracker.isLocked(EMAIL)).thenReturn(true);
+
+            assertThrows(LockedException.class, () -> authService.login(loginDto("password")));
+
+            verifyNoInteractions(authenticationManager);
+            verify(loginAttemptTracker, never()).recordFailure(any());
+            assertEquals(1, meterRegistry.get("login.failure").counter().count());
+        }
+
+        @Test
+        void badCredentialsRecordFailure() {
+            when(authenticationManager.authenticate(any())).thenThrow(new BadCredentialsException("Bad credentials"));
+
+            assertThrows(BadCredentialsException.class, () -> authService.login(loginDto("wrong")));
+
+            verify(loginAttemptTracker).recordFailure(EMAIL);
+            verify(loginAttemptTracker, never()).recordSuccess(any());
+            assertEquals(1, meterRegistry.get("login.failure").counter().count());
+        }
+
+        @Test
+        void successfulLoginRecordsSuccess() {
+            User user = User.builder().id("user-id").email(EMAIL).name("Test User").role(Role.PACILIAN).build();
+            Authentication authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+            when(authenticationManager.authenticate(any())).thenReturn(authentication);
+            when(refreshTokenService.issue(user))
+                    .thenReturn(new RefreshTokenService.IssuedRefreshToken("refresh-token", "family-id"));
+            when(jwtService.generateToken(user, "family-id")).thenReturn("access-token");
+
+            LoginResponseDto response = authService.login(loginDto("password"));
+
+            assertEquals("access-token", response.getAccessToken());
+            assertEquals("refresh-token", response.getRefreshToken());
+            verify(loginAttemptTracker).recordSuccess(user);
+            verify(loginAttemptTracker, never()).recordFailure(any());
+            assertEquals(1, meterRegistry.get("login.success").counter().count());
+        }
+    }
+
+    private static LoginDto loginDto(String password) {
+        return LoginDto.builder().email(EMAIL).password(password).build();
+    }
+}
@@ -0,0 +1,156 @@
+package id.ac.ui.cs.advprog.beauthentication.service;
+
+import id.ac.ui.cs.advprog.beauthentication.cache.NegativeLookupCache;
+import id.ac.ui.cs.advprog.beauthentication.cache.TokenVerificationCache;
+import id.ac.ui.cs.advprog.beauthentication.dto.RegisterCaregiverDto;
+import id.ac.ui.cs.advprog.beauthentication.dto.RegisterPacilianDto;
+import id.ac.ui.cs.advprog.beauthentication.enums.Speciality;
+import id.ac.ui.cs.advprog.beauthentication.model.Caregiver;
+import id.ac.ui.cs.advprog.beauthentication.model.Pacilian;
+import id.ac.ui.cs.advprog.beauthentication.model.User;
+import id.ac.ui.cs.advprog.beauthentication.repository.CaregiverRepository;
+import id.ac.ui.cs.advprog.beauthentication.repository.PacilianRepository;
+import id.ac.ui.cs.advprog.beauthentication.repository.UserRepository;
+import id.ac.ui.cs.advprog.beauthentication.security.LoginAttemptTracker;
+import id.ac.ui.cs.advprog.beauthentication.security.TokenRevocationList;
+import id.ac.ui.cs.advprog.beauthentication.security.TokenVersionRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AuthServiceImplRegistrationTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PacilianRepository pacilianRepository;
+    private CaregiverRepository caregiverRepository;
+    private AuthServiceImpl authService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        UserRepository userRepository = mock(UserRepository.class);
+        pacilianRepository = mock(PacilianRepository.class);
+        caregiverRepository = mock(CaregiverRepository.class);
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        when(passwordEncoder.encode(any())).thenReturn("{bcrypt}hash");
+
+        authService = new AuthServiceImpl(
+                userRepository,
+                pacilianRepository,
+                caregiverRepository,
+                passwordEncoder,
+                mock(JwtService.class),
+                mock(RefreshTokenService.class),
+                mock(AuthenticationManager.class),
+                new TokenVerificationCache(100, 60000,
+                        meterRegistry.counter("hit"), meterRegistry.counter("miss"), meterRegistry.counter("eviction")),
+                mock(TokenRevocationList.class),
+                new TokenVersionRegistry(100, 60000, userRepository, meterRegistry),
+                mock(NegativeLookupCache.class),
+                mock(LoginAttemptTracker.class),
+                meterRegistry.counter("login.success"),
+                meterRegistry.counter("login.failure"),
+                meterRegistry.counter("refresh.success"),
+                meterRegistry.counter("refresh.failure"),
+                meterRegistry.counter("register.pacilian"),
+                meterRegistry.counter("register.caregiver"),
+                meterRegistry.counter("register.pacilian.failure"),
+                meterRegistry.counter("register.caregiver.failure"),
+                meterRegistry.timer("verify"));
+    }
+
+    @Nested
+    class DuplicateIdentityTests {
+        @Test
+        void namedEmailConstraintIsReportedAsDuplicateEmail() {
+            when(pacilianRepository.saveAndFlush(any(Pacilian.class)))
+                    .thenThrow(violation("could not execute statement", User.EMAIL_CONSTRAINT));
+
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> authService.registerPacilian(pacilianDto()));
+
+            assertEquals("Email already exists", exception.getMessage());
+            assertEquals(1, meterRegistry.get("register.pacilian.failure").counter().count());
+        }
+
+        @Test
+        void namedNikConstraintIsReportedAsDuplicateNik() {
+            when(caregiverRepository.saveAndFlush(any(Caregiver.class)))
+                    .thenThrow(violation("could not execute statement", User.NIK_CONSTRAINT.toUpperCase()));
+
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> authService.registerCaregiver(caregiverDto()));
+
+            assertEquals("NIK already exists", exception.getMessage());
+            assertEquals(1, meterRegistry.get("register.caregiver.failure").counter().count());
+        }
+
+        @Test
+        void unnamedConstraintFallsBackToColumnInMessage() {
+            when(pacilianRepository.saveAndFlush(any(Pacilian.class))).thenThrow(violation(
+                    "ERROR: duplicate key value violates unique constraint \"uk6dotkott2kjsp8vw4d0m25fb7\"\n"
+                            + "  Detail: Key (nik)=(1234567890123456) already exists.",
+                    null));
+
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> authService.registerPacilian(pacilianDto()));
+
+            assertEquals("NIK already exists", exception.getMessage());
+        }
+
+        @Test
+        void unrecognisedViolationIsRethrownUnchanged() {
+            DataIntegrityViolationException violation = violation(
+                    "ERROR: null value in column \"address\" violates not-null constraint", null);
+            when(pacilianRepository.saveAndFlush(any(Pacilian.class))).thenThrow(violation);
+
+            DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class,
+                    () -> authService.registerPacilian(pacilianDto()));
+
+            assertSame(violation, exception);
+            assertEquals(1, meterRegistry.get("register.pacilian.failure").counter().count());
+        }
+    }
+
+    private static DataIntegrityViolationException violation(String databaseMessage, String constraintName) {
+        SQLException sqlException = new SQLException(databaseMessage, "23505");
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", sqlException, constraintName));
+    }
+
+    private static RegisterPacilianDto pacilianDto() {
+        RegisterPacilianDto registerDto = new RegisterPacilianDto();
+        registerDto.setEmail("pacilian@example.com");
+        registerDto.setPassword("password");
+        registerDto.setName("Test Pacilian");
+        registerDto.setNik("1234567890123456");
+        registerDto.setAddress("Test Address");
+        registerDto.setPhoneNumber("08123456789");
+        registerDto.setMedicalHistory("None");
+        return registerDto;
+    }
+
+    private static RegisterCaregiverDto caregiverDto() {
+        RegisterCaregiverDto registerDto = new RegisterCaregiverDto();
+        registerDto.setEmail("caregiver@example.com");
+        registerDto.setPassword("password");
+        registerDto.setName("Dr. Test");
+        registerDto.setNik("1234567890123457");
+        registerDto.setAddress("Test Address");
+        registerDto.setPhoneNumber("08123456789");
+        registerDto.setSpeciality(Speciality.DOKTER_UMUM);
+        registerDto.setWorkAddress("Test Hospital");
+        return registerDto;
+    }
+}
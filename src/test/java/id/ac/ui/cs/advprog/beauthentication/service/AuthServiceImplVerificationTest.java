@@ -0,0 +1,146 @@
+package id.ac.ui.cs.advprog.beauthentication.service;
+
+import id.ac.ui.cs.advprog.beauthentication.cache.NegativeLookupCache;
+import id.ac.ui.cs.advprog.beauthentication.cache.TokenVerificationCache;
+import id.ac.ui.cs.advprog.beauthentication.dto.TokenVerificationResponseDto;
+import id.ac.ui.cs.advprog.beauthentication.dto.ValidatedTokenDto;
+import id.ac.ui.cs.advprog.beauthentication.enums.Role;
+import id.ac.ui.cs.advprog.beauthentication.model.User;
+import id.ac.ui.cs.advprog.beauthentication.repository.CaregiverRepository;
+import id.ac.ui.cs.advprog.beauthentication.repository.PacilianRepository;
+import id.ac.ui.cs.advprog.beauthentication.repository.UserRepository;
+import id.ac.ui.cs.advprog.beauthentication.security.LoginAttemptTracker;
+import id.ac.ui.cs.advprog.beauthentication.security.TokenRevocationList;
+import id.ac.ui.cs.advprog.beauthentication.security.TokenVersionRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class AuthServiceImplVerificationTest {
+
+    private UserRepository userRepository;
+    private JwtService jwtService;
+    private AuthServiceImpl authService;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        userRepository = mock(UserRepository.class);
+        jwtService = mock(JwtService.class);
+        when(jwtService.isTokenValid(any(ValidatedTokenDto.class), any(User.class))).thenReturn(true);
+        when(jwtService.getRemainingTime(any(ValidatedTokenDto.class))).thenReturn(60000L);
+
+        authService = new AuthServiceImpl(
+                userRepository,
+                mock(PacilianRepository.class),
+                mock(CaregiverRepository.class),
+                mock(PasswordEncoder.class),
+                jwtService,
+                mock(RefreshTokenService.class),
+                mock(AuthenticationManager.class),
+                new TokenVerificationCache(100, 60000,
+                        meterRegistry.counter("hit"), meterRegistry.counter("miss"), meterRegistry.counter("eviction")),
+                mock(TokenRevocationList.class),
+                new TokenVersionRegistry(100, 60000, userRepository, meterRegistry),
+                mock(NegativeLookupCache.class),
+                mock(LoginAttemptTracker.class),
+                meterRegistry.counter("login.success"),
+                meterRegistry.counter("login.failure"),
+                meterRegistry.counter("refresh.success"),
+                meterRegistry.counter("refresh.failure"),
+                meterRegistry.counter("register.pacilian"),
+                meterRegistry.counter("register.caregiver"),
+                meterRegistry.counter("register.pacilian.failure"),
+                meterRegistry.counter("register.caregiver.failure"),
+                meterRegistry.timer("verify"));
+    }
+
+    @Nested
+    class VerifyTokenTests {
+        @Test
+        void firstVerificationLoadsUserOnce() {
+            User user = user(0);
+            stubToken("token", user, 0);
+            when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+
+            assertTrue(authService.verifyToken("token").isValid());
+
+            verify(userRepository).findByEmail(user.getEmail());
+            verifyNoMoreInteractions(userRepository);
+        }
+
+        @Test
+        void staleTokenVersionIsRejected() {
+            User user = user(1);
+            stubToken("token", user, 0);
+            when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+
+            assertFalse(authService.verifyToken("token").isValid());
+            verify(userRepository, never()).findTokenVersionById(any());
+        }
+    }
+
+    @Nested
+    class VerifyTokensTests {
+        @Test
+        void batchVerificationIssuesSingleUserQuery() {
+            User first = user(0);
+            User second = User.builder().id("user-2").email("second@example.com").role(Role.CAREGIVER).build();
+            User third = User.builder().id("user-3").email("third@example.com").role(Role.PACILIAN).build();
+            stubToken("first", first, 0);
+            stubToken("second", second, 0);
+            stubToken("third", third, 0);
+            when(userRepository.findByEmailIn(anyCollection())).thenReturn(List.of(first, second, third));
+
+            List<TokenVerificationResponseDto> responses = authService.verifyTokens(List.of("first", "second", "third"));
+
+            assertTrue(responses.stream().allMatch(TokenVerificationResponseDto::isValid));
+            verify(userRepository, times(1)).findByEmailIn(anyCollection());
+            verifyNoMoreInteractions(userRepository);
+        }
+
+        @Test
+        void staleTokenInBatchIsRejected() {
+            User user = user(2);
+            stubToken("stale", user, 1);
+            when(userRepository.findByEmailIn(anyCollection())).thenReturn(List.of(user));
+
+            List<TokenVerificationResponseDto> responses = authService.verifyTokens(List.of("stale"));
+
+            assertFalse(responses.get(0).isValid());
+            verify(userRepository, never()).findTokenVersionById(any());
+        }
+    }
+
+    private User user(int tokenVersion) {
+        return User.builder()
+                .id("user-1")
+                .email("first@example.com")
+                .role(Role.PACILIAN)
+                .tokenVersion(tokenVersion)
+                .build();
+    }
+
+    private void stubToken(String token, User user, int tokenVersion) {
+        when(jwtService.parseToken(token)).thenReturn(ValidatedTokenDto.builder()
+                .tokenId(token + "-jti")
+                .subject(user.getEmail())
+                .userId(user.getId())
+                .role(user.getRole())
+                .tokenVersion(tokenVersion)
+                .expiration(new Date(System.currentTimeMillis() + 60000))
+                .build());
+    }
+}
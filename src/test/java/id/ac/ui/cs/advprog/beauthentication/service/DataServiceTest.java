@@ -0,0 +1,224 @@
+package id.ac.ui.cs.advprog.beauthentication.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import id.ac.ui.cs.advprog.beauthentication.cache.NegativeLookupCache;
+import id.ac.ui.cs.advprog.beauthentication.cache.PublicProfileCache;
+import id.ac.ui.cs.advprog.beauthentication.dto.CaregiverPageDto;
+import id.ac.ui.cs.advprog.beauthentication.dto.CaregiverPublicDto;
+import id.ac.ui.cs.advprog.beauthentication.enums.Speciality;
+import id.ac.ui.cs.advprog.beauthentication.exception.ResourceNotFoundException;
+import id.ac.ui.cs.advprog.beauthentication.repository.CaregiverRepository;
+import id.ac.ui.cs.advprog.beauthentication.repository.PacilianRepository;
+import id.ac.ui.cs.advprog.beauthentication.repository.UserRepository;
+import id.ac.ui.cs.advprog.beauthentication.repository.projection.CaregiverPublicView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DataServiceTest {
+
+    private static final String CAREGIVER_ID = "caregiver-id";
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserRepository userRepository;
+    private CaregiverRepository caregiverRepository;
+    private NegativeLookupCache negativeLookupCache;
+    private ObjectMapper objectMapper;
+    private DataService dataService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userRepository = mock(UserRepository.class);
+        caregiverRepository = mock(CaregiverRepository.class);
+        objectMapper = new ObjectMapper();
+        negativeLookupCache = new NegativeLookupCache(
+                userRepository, 100, 30000, 100, 0.01, false, meterRegistry.counter("negative.hit"));
+
+        dataService = new DataService(
+                mock(PacilianRepository.class),
+                caregiverRepository,
+                objectMapper,
+                new PublicProfileCache(100, 60000, meterRegistry),
+                negativeLookupCache,
+                meterRegistry.counter("data.requests"),
+                meterRegistry.counter("caregiver.search"),
+                meterRegistry.counter("caregiver.view"),
+                meterRegistry.counter("pacilian.view"),
+                meterRegistry.timer("data.query"),
+                meterRegistry.timer("data.export"),
+                meterRegistry.counter("data.failures"),
+                meterRegistry.counter("caregiver.not-found"),
+                meterRegistry.counter("pacilian.not-found"));
+    }
+
+    @Nested
+    class GetCaregiverByIdTests {
+        @Test
+        void caregiverCreatedBehindTheCacheIsFound() {
+            when(userRepository.count()).thenReturn(1L);
+            when(userRepository.streamAllIds()).thenReturn(Stream.of("other-id"));
+            negativeLookupCache.rebuild();
+            CaregiverPublicView caregiver = caregiverView(CAREGIVER_ID, "Dr. Budi");
+            when(caregiverRepository.findProjectedById(CAREGIVER_ID)).thenReturn(Optional.of(caregiver));
+
+            CaregiverPublicDto result = dataService.getCaregiverById(CAREGIVER_ID);
+
+            assertEquals(CAREGIVER_ID, result.getId());
+            assertEquals("Dr. Budi", result.getName());
+            verify(caregiverRepository).findProjectedById(CAREGIVER_ID);
+        }
+
+        @Test
+        void confirmedMissIsAnsweredWithoutSecondQuery() {
+            when(caregiverRepository.findProjectedById(CAREGIVER_ID)).thenReturn(Optional.empty());
+
+            assertThrows(ResourceNotFoundException.class, () -> dataService.getCaregiverById(CAREGIVER_ID));
+            assertThrows(ResourceNotFoundException.class, () -> dataService.getCaregiverById(CAREGIVER_ID));
+
+            verify(caregiverRepository, times(1)).findProjectedById(CAREGIVER_ID);
+        }
+    }
+
+    @Nested
+    class CaregiverPageTests {
+        @Test
+        void firstPageReturnsCursorForLastItem() {
+            List<CaregiverPublicView> caregivers = List.of(
+                    caregiverView("a", "First"), caregiverView("b", "Second"), caregiverView("c", "Third"));
+            when(caregiverRepository.findAllByOrderByIdAsc(Limit.of(3))).thenReturn(caregivers);
+
+            CaregiverPageDto page = dataService.getCaregiverPage(2, null);
+
+            assertEquals(List.of("a", "b"), page.getItems().stream().map(CaregiverPublicDto::getId).toList());
+            assertNotNull(page.getNextCursor());
+            assertEquals("b", CaregiverCursor.decode(page.getNextCursor()));
+        }
+
+        @Test
+        void nextCursorResumesAfterLastSeenId() {
+            List<CaregiverPublicView> caregivers = List.of(caregiverView("c", "Third"));
+            when(caregiverRepository.findByIdGreaterThanOrderByIdAsc("b", Limit.of(3))).thenReturn(caregivers);
+
+            CaregiverPageDto page = dataService.getCaregiverPage(2, CaregiverCursor.encode("b"));
+
+            assertEquals("c", page.getItems().get(0).getId());
+            verify(caregiverRepository, never()).findAllByOrderByIdAsc(any());
+        }
+
+        @Test
+        void lastPageHasNoNextCursor() {
+            List<CaregiverPublicView> caregivers = List.of(caregiverView("a", "First"), caregiverView("b", "Second"));
+            when(caregiverRepository.findAllByOrderByIdAsc(Limit.of(3))).thenReturn(caregivers);
+
+            CaregiverPageDto page = dataService.getCaregiverPage(2, null);
+
+            assertEquals(2, page.getItems().size());
+            assertNull(page.getNextCursor());
+        }
+
+        @Test
+        void malformedCursorIsRejected() {
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> dataService.getCaregiverPage(2, "not a cursor!"));
+
+            assertEquals("Invalid cursor: not a cursor!", exception.getMessage());
+            verifyNoInteractions(caregiverRepository);
+        }
+
+        @Test
+        void limitIsValidatedAndClamped() {
+            when(caregiverRepository.findAllByOrderByIdAsc(any())).thenReturn(List.of());
+
+            assertThrows(IllegalArgumentException.class, () -> dataService.getCaregiverPage(0, null));
+            dataService.getCaregiverPage(1000, null);
+
+            verify(caregiverRepository).findAllByOrderByIdAsc(Limit.of(CaregiverCursor.MAX_PAGE_SIZE + 1));
+        }
+
+        @Test
+        void cursorRoundTripsNonAsciiIds() {
+            String id = "caregiver-\u00e9/+=";
+
+            assertEquals(id, CaregiverCursor.decode(CaregiverCursor.encode(id)));
+            assertNull(CaregiverCursor.decode(" "));
+        }
+    }
+
+    @Nested
+    class ExportTests {
+        @Test
+        void exportWritesOneJsonObjectPerLineAndClosesStream() throws IOException {
+            AtomicBoolean closed = new AtomicBoolean();
+            Stream<CaregiverPublicView> caregivers = Stream.of(caregiverView("a", "First"), caregiverView("b", "Second"))
+                    .onClose(() -> closed.set(true));
+            when(caregiverRepository.streamAllBy()).thenReturn(caregivers);
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+            dataService.exportCaregivers(outputStream);
+
+            String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n", -1);
+            assertEquals(3, lines.length);
+            assertEquals("", lines[2]);
+            CaregiverPublicDto first = objectMapper.readValue(lines[0], CaregiverPublicDto.class);
+            CaregiverPublicDto second = objectMapper.readValue(lines[1], CaregiverPublicDto.class);
+            assertEquals("a", first.getId());
+            assertEquals("First", first.getName());
+            assertEquals(Speciality.DOKTER_UMUM, first.getSpeciality());
+            assertEquals("b", second.getId());
+            assertTrue(closed.get());
+        }
+
+        @Test
+        void exportIsTimedSeparatelyFromQueries() throws IOException {
+            when(caregiverRepository.streamAllBy()).thenReturn(Stream.empty());
+
+            dataService.exportCaregivers(new ByteArrayOutputStream());
+
+            assertEquals(1, meterRegistry.get("data.export").timer().count());
+            assertEquals(0, meterRegistry.get("data.query").timer().count());
+        }
+
+        @Test
+        void exportClosesStreamWhenClientDisconnects() {
+            AtomicBoolean closed = new AtomicBoolean();
+            Stream<CaregiverPublicView> caregivers = Stream.of(caregiverView("a", "First"))
+                    .onClose(() -> closed.set(true));
+            when(caregiverRepository.streamAllBy()).thenReturn(caregivers);
+            OutputStream outputStream = new OutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    throw new IOException("Broken pipe");
+                }
+            };
+
+            assertThrows(IOException.class, () -> dataService.exportCaregivers(outputStream));
+            assertTrue(closed.get());
+        }
+    }
+
+    private static CaregiverPublicView caregiverView(String id, String name) {
+        CaregiverPublicView view = mock(CaregiverPublicView.class);
+        when(view.getId()).thenReturn(id);
+        when(view.getName()).thenReturn(name);
+        when(view.getEmail()).thenReturn(id + "@example.com");
+        when(view.getSpeciality()).thenReturn(Speciality.DOKTER_UMUM);
+        when(view.getWorkAddress()).thenReturn("Jakarta");
+        when(view.getPhoneNumber()).thenReturn("08123456789");
+        return view;
+    }
+}
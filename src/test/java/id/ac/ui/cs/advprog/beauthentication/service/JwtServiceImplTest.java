@@ -1,17 +1,23 @@
 package id.ac.ui.cs.advprog.beauthentication.service;
 
+import id.ac.ui.cs.advprog.beauthentication.dto.ValidatedTokenDto;
 import id.ac.ui.cs.advprog.beauthentication.enums.Role;
 import id.ac.ui.cs.advprog.beauthentication.model.User;
+import id.ac.ui.cs.advprog.beauthentication.security.JwtKeyProvider;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -49,6 +55,7 @@ class JwtServiceImplTest {
             Claims claims = extractAllClaims(token);
             assertEquals(TEST_USER_ID, claims.get("id"));
             assertEquals(Role.PACILIAN.getValue(), claims.get("role"));
+            assertEquals(0, claims.get("tokenVersion"));
         }
 
         @Test
@@ -219,6 +226,76 @@ class JwtServiceImplTest {
         }
     }
 
+    @Nested
+    class ParsedTokenTests {
+        @Test
+        void parseTokenReturnsAllUserClaims() {
+            User user = createTestUser(TEST_USER_ID, TEST_EMAIL, TEST_NAME, Role.CAREGIVER);
+            String token = jwtService.generateToken(user);
+
+            ValidatedTokenDto validatedToken = jwtService.parseToken(token);
+
+            assertEquals(TEST_EMAIL, validatedToken.getSubject());
+            assertEquals(TEST_USER_ID, validatedToken.getUserId());
+            assertEquals(TEST_NAME, validatedToken.getName());
+            assertEquals(Role.CAREGIVER, validatedToken.getRole());
+            assertNotNull(validatedToken.getExpiration());
+            assertNotNull(validatedToken.getTokenId());
+            assertEquals(0, validatedToken.getTokenVersion());
+        }
+
+        @Test
+        void generateTokenAssignsUniqueTokenIds() {
+            User user = createTestUser(TEST_USER_ID, TEST_EMAIL, TEST_NAME, Role.CAREGIVER);
+
+            String firstId = jwtService.parseToken(jwtService.generateToken(user)).getTokenId();
+            String secondId = jwtService.parseToken(jwtService.generateToken(user)).getTokenId();
+
+            assertNotEquals(firstId, secondId);
+        }
+
+        @Test
+        void parseTokenExpiredTokenThrowsExpiredJwtException() {
+            User user = createTestUser(TEST_USER_ID, TEST_EMAIL, TEST_NAME, Role.PACILIAN);
+            String token = createExpiredToken(user);
+
+            assertThrows(ExpiredJwtException.class, () -> jwtService.parseToken(token));
+        }
+
+        @Test
+        void isTokenValidWithParsedTokenChecksSubject() {
+            User user = createTestUser(TEST_USER_ID, TEST_EMAIL, TEST_NAME, Role.PACILIAN);
+            User differentUser = createTestUser("different-id", "different@example.com", "Different User", Role.PACILIAN);
+            ValidatedTokenDto validatedToken = jwtService.parseToken(jwtService.generateToken(user));
+
+            assertTrue(jwtService.isTokenValid(validatedToken, user));
+            assertFalse(jwtService.isTokenValid(validatedToken, differentUser));
+        }
+
+        @Test
+        void parseTokenReturnsSessionId() {
+            User user = createTestUser(TEST_USER_ID, TEST_EMAIL, TEST_NAME, Role.PACILIAN);
+
+            ValidatedTokenDto withSession = jwtService.parseToken(jwtService.generateToken(user, "family-id"));
+            ValidatedTokenDto withoutSession = jwtService.parseToken(jwtService.generateToken(user));
+
+            assertEquals("family-id", withSession.getSessionId());
+            assertEquals(TEST_USER_ID, withSession.getUserId());
+            assertNull(withoutSession.getSessionId());
+        }
+
+        @Test
+        void getRemainingTimeWithParsedTokenReturnsPositiveValue() {
+            User user = createTestUser(TEST_USER_ID, TEST_EMAIL, TEST_NAME, Role.PACILIAN);
+            ValidatedTokenDto validatedToken = jwtService.parseToken(jwtService.generateToken(user));
+
+            long remainingTime = jwtService.getRemainingTime(validatedToken);
+
+            assertTrue(remainingTime > 0);
+            assertTrue(remainingTime <= TEST_EXPIRATION_TIME);
+        }
+    }
+
     @Nested
     class ExpirationTests {
         @Test
@@ -249,6 +326,104 @@ class JwtServiceImplTest {
         }
     }
 
+    @Nested
+    class SigningKeyCacheTests {
+        @Test
+        void signingMaterialIsReusedAcrossCalls() {
+            User user = createTestUser(TEST_USER_ID, TEST_EMAIL, TEST_NAME, Role.PACILIAN);
+            String token = jwtService.generateToken(user);
+            Object firstMaterial = ReflectionTestUtils.getField(jwtService, "signingMaterial");
+
+            jwtService.extractUsername(token);
+            jwtService.extractUsername(token);
+
+            assertNotNull(firstMaterial);
+            assertSame(firstMaterial, ReflectionTestUtils.getField(jwtService, "signingMaterial"));
+        }
+
+        @Test
+        void signingMaterialIsRebuiltWhenSecretKeyChanges() {
+            User user = createTestUser(TEST_USER_ID, TEST_EMAIL, TEST_NAME, Role.PACILIAN);
+            String oldToken = jwtService.generateToken(user);
+
+            ReflectionTestUtils.setField(jwtService, "secretKey",
+                    "1111111111111111111111111111111111111111111111111111111111111111");
+            String newToken = jwtService.generateToken(user);
+
+            assertEquals(TEST_EMAIL, jwtService.extractUsername(newToken));
+            assertThrows(Exception.class, () -> jwtService.extractUsername(oldToken));
+        }
+    }
+
+    @Nested
+    class AsymmetricSigningTests {
+        @Test
+        void rs256TokensCarryKeyIdAndVerify() {
+            JwtKeyProvider keyProvider = useKeyProvider("RS256");
+            User user = createTestUser(TEST_USER_ID, TEST_EMAIL, TEST_NAME, Role.PACILIAN);
+
+            String token = jwtService.generateToken(user);
+
+            String header = decodeHeader(token);
+            assertTrue(header.contains("\"alg\":\"RS256\""));
+            assertTrue(header.contains("\"kid\":\"" + keyProvider.currentKey().keyId() + "\""));
+            assertEquals(TEST_EMAIL, jwtService.parseToken(token).getSubject());
+        }
+
+        @Test
+        void es256TokensVerify() {
+            useKeyProvider("ES256");
+            User user = createTestUser(TEST_USER_ID, TEST_EMAIL, TEST_NAME, Role.CAREGIVER);
+
+            String token = jwtService.generateToken(user);
+
+            assertTrue(decodeHeader(token).contains("\"alg\":\"ES256\""));
+            assertEquals(Role.CAREGIVER, jwtService.parseToken(token).getRole());
+        }
+
+        @Test
+        void legacyHmacTokensRemainValidDuringMigration() {
+            User user = createTestUser(TEST_USER_ID, TEST_EMAIL, TEST_NAME, Role.PACILIAN);
+            String legacyToken = jwtService.generateToken(user);
+
+            useKeyProvider("RS256");
+
+            assertEquals(TEST_EMAIL, jwtService.parseToken(legacyToken).getSubject());
+        }
+
+        @Test
+        void legacyHmacTokensAreRejectedWhenDisabled() {
+            User user = createTestUser(TEST_USER_ID, TEST_EMAIL, TEST_NAME, Role.PACILIAN);
+            String legacyToken = jwtService.generateToken(user);
+
+            useKeyProvider("RS256");
+            ReflectionTestUtils.setField(jwtService, "acceptLegacyHmac", false);
+
+            assertThrows(SignatureException.class, () -> jwtService.parseToken(legacyToken));
+        }
+
+        @Test
+        void tokensFromUnknownKeyAreRejected() {
+            useKeyProvider("RS256");
+            String foreignToken = jwtService.generateToken(createTestUser(TEST_USER_ID, TEST_EMAIL, TEST_NAME, Role.PACILIAN));
+
+            useKeyProvider("RS256");
+
+            assertThrows(SignatureException.class, () -> jwtService.parseToken(foreignToken));
+        }
+
+        private JwtKeyProvider useKeyProvider(String algorithm) {
+            JwtKeyProvider keyProvider = new JwtKeyProvider(algorithm, "", "", "", "", new DefaultResourceLoader());
+            ReflectionTestUtils.setField(jwtService, "jwtKeyProvider", keyProvider);
+            return keyProvider;
+        }
+
+        private String decodeHeader(String token) {
+            return new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))),
+                    StandardCharsets.UTF_8);
+        }
+    }
+
     private User createTestUser(String id, String email, String name, Role role) {
         return User.builder()
                 .id(id)
@@ -0,0 +1,134 @@
+package id.ac.ui.cs.advprog.beauthentication.service;
+
+import id.ac.ui.cs.advprog.beauthentication.cache.PublicProfileCache;
+import id.ac.ui.cs.advprog.beauthentication.dto.PasswordChangeDto;
+import id.ac.ui.cs.advprog.beauthentication.enums.Role;
+import id.ac.ui.cs.advprog.beauthentication.model.User;
+import id.ac.ui.cs.advprog.beauthentication.repository.CaregiverRepository;
+import id.ac.ui.cs.advprog.beauthentication.repository.PacilianRepository;
+import id.ac.ui.cs.advprog.beauthentication.repository.UserRepository;
+import id.ac.ui.cs.advprog.beauthentication.security.TokenVersionRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ProfileServiceImplPasswordTest {
+
+    private UserRepository userRepository;
+    private PasswordEncoder passwordEncoder;
+    private TokenVersionRegistry tokenVersionRegistry;
+    private RefreshTokenService refreshTokenService;
+    private TransactionTemplate transactionTemplate;
+    private Authentication authentication;
+    private AtomicBoolean inTransaction;
+    private User user;
+    private ProfileServiceImpl profileService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        userRepository = mock(UserRepository.class);
+        passwordEncoder = mock(PasswordEncoder.class);
+        tokenVersionRegistry = mock(TokenVersionRegistry.class);
+        refreshTokenService = mock(RefreshTokenService.class);
+        transactionTemplate = mock(TransactionTemplate.class);
+        authentication = mock(Authentication.class);
+        inTransaction = new AtomicBoolean();
+
+        doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            inTransaction.set(true);
+            try {
+                action.accept(mock(TransactionStatus.class));
+            } finally {
+                inTransaction.set(false);
+            }
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any(Consumer.class));
+
+        user = User.builder()
+                .id("user-id")
+                .email("user@example.com")
+                .password("{bcrypt}old")
+                .role(Role.PACILIAN)
+                .build();
+        when(authentication.getPrincipal()).thenReturn(user);
+        when(passwordEncoder.matches("current", "{bcrypt}old")).thenReturn(true);
+        when(passwordEncoder.encode("new-password")).thenAnswer(invocation -> {
+            assertFalse(inTransaction.get());
+            return "{bcrypt}new";
+        });
+
+        profileService = new ProfileServiceImpl(
+                userRepository,
+                mock(PacilianRepository.class),
+                mock(CaregiverRepository.class),
+                passwordEncoder,
+                mock(PublicProfileCache.class),
+                tokenVersionRegistry,
+                refreshTokenService,
+                transactionTemplate,
+                meterRegistry.counter("profile.view"),
+                meterRegistry.counter("profile.update.success"),
+                meterRegistry.counter("profile.update.failure"),
+                meterRegistry.counter("password.change.success"),
+                meterRegistry.counter("password.change.failure"),
+                meterRegistry.timer("profile.update"));
+    }
+
+    @Nested
+    class ChangePasswordTests {
+        @Test
+        void hashesBeforeOpeningTransaction() {
+            profileService.changePassword(passwordChange("current", "new-password", "new-password"), authentication);
+
+            InOrder inOrder = inOrder(passwordEncoder, transactionTemplate, userRepository, tokenVersionRegistry, refreshTokenService);
+            inOrder.verify(passwordEncoder).encode("new-password");
+            inOrder.verify(transactionTemplate).executeWithoutResult(any());
+            inOrder.verify(userRepository).updatePasswordByEmail("user@example.com", "{bcrypt}new");
+            inOrder.verify(tokenVersionRegistry).bump("user-id");
+            inOrder.verify(refreshTokenService).revokeAll("user-id");
+            assertEquals("{bcrypt}new", user.getPassword());
+        }
+
+        @Test
+        void wrongCurrentPasswordNeverOpensTransaction() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    profileService.changePassword(passwordChange("wrong", "new-password", "new-password"), authentication));
+
+            verify(passwordEncoder, never()).encode(any());
+            verifyNoInteractions(transactionTemplate);
+        }
+
+        @Test
+        void mismatchedConfirmationNeverOpensTransaction() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    profileService.changePassword(passwordChange("current", "new-password", "other"), authentication));
+
+            verify(passwordEncoder, never()).encode(any());
+            verifyNoInteractions(transactionTemplate);
+        }
+    }
+
+    private static PasswordChangeDto passwordChange(String current, String newPassword, String confirmPassword) {
+        return PasswordChangeDto.builder()
+                .currentPassword(current)
+                .newPassword(newPassword)
+                .confirmPassword(confirmPassword)
+                .build();
+    }
+}
@@ -0,0 +1,176 @@
+package id.ac.ui.cs.advprog.beauthentication.service;
+
+import id.ac.ui.cs.advprog.beauthentication.cache.NegativeLookupCache;
+import id.ac.ui.cs.advprog.beauthentication.cache.PublicProfileCache;
+import id.ac.ui.cs.advprog.beauthentication.dto.CaregiverPublicDto;
+import id.ac.ui.cs.advprog.beauthentication.dto.PacilianPublicDto;
+import id.ac.ui.cs.advprog.beauthentication.enums.Role;
+import id.ac.ui.cs.advprog.beauthentication.enums.Speciality;
+import id.ac.ui.cs.advprog.beauthentication.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.Readable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class ReactiveDataServiceTest {
+
+    private static final String ID = "user-id";
+
+    private DatabaseClient databaseClient;
+    private DatabaseClient.GenericExecuteSpec executeSpec;
+    private PublicProfileCache publicProfileCache;
+    private NegativeLookupCache negativeLookupCache;
+    private ReactiveDataService reactiveDataService;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        databaseClient = mock(DatabaseClient.class);
+        executeSpec = mock(DatabaseClient.GenericExecuteSpec.class);
+        when(databaseClient.sql(anyString())).thenReturn(executeSpec);
+        when(executeSpec.bind(anyString(), any())).thenReturn(executeSpec);
+        publicProfileCache = new PublicProfileCache(100, 60000, meterRegistry);
+        negativeLookupCache = mock(NegativeLookupCache.class);
+
+        reactiveDataService = new ReactiveDataService(
+                databaseClient,
+                publicProfileCache,
+                negativeLookupCache,
+                meterRegistry.counter("data.requests"),
+                meterRegistry.counter("caregiver.search"),
+                meterRegistry.counter("caregiver.view"),
+                meterRegistry.counter("pacilian.view"),
+                meterRegistry.timer("data.query"),
+                meterRegistry.timer("data.export"),
+                meterRegistry.counter("data.failures"),
+                meterRegistry.counter("caregiver.not-found"),
+                meterRegistry.counter("pacilian.not-found"));
+    }
+
+    @Nested
+    class ProfileLookupTests {
+        @Test
+        void getCaregiverByIdLoadsOnceAndServesFromSharedCache() {
+            stubRows(caregiverRow(ID, "Dr. Test"));
+
+            StepVerifier.create(reactiveDataService.getCaregiverById(ID))
+                    .assertNext(caregiver -> assertEquals("Dr. Test", caregiver.getName()))
+                    .verifyComplete();
+            StepVerifier.create(reactiveDataService.getCaregiverById(ID))
+                    .assertNext(caregiver -> assertEquals(ID, caregiver.getId()))
+                    .verifyComplete();
+
+            verify(databaseClient, times(1)).sql(anyString());
+            assertEquals("Dr. Test", publicProfileCache.getCachedCaregiver(ID).getName());
+        }
+
+        @Test
+        void getPacilianByIdUsesEntryCachedByMvcPath() {
+            publicProfileCache.getPacilian(ID, id -> PacilianPublicDto.builder().id(id).name("Cached").build());
+
+            StepVerifier.create(reactiveDataService.getPacilianById(ID))
+                    .assertNext(pacilian -> assertEquals("Cached", pacilian.getName()))
+                    .verifyComplete();
+
+            verifyNoInteractions(databaseClient);
+        }
+
+        @Test
+        void getCaregiverByIdMissingRecordsMiss() {
+            stubRows();
+
+            StepVerifier.create(reactiveDataService.getCaregiverById(ID))
+                    .expectError(ResourceNotFoundException.class)
+                    .verify();
+
+            verify(negativeLookupCache).recordMissing(Role.CAREGIVER, ID);
+            assertNull(publicProfileCache.getCachedCaregiver(ID));
+        }
+
+        @Test
+        void getCaregiverByIdKnownMissingSkipsQuery() {
+            when(negativeLookupCache.isKnownMissing(Role.CAREGIVER, ID)).thenReturn(true);
+
+            StepVerifier.create(reactiveDataService.getCaregiverById(ID))
+                    .expectError(ResourceNotFoundException.class)
+                    .verify();
+
+            verifyNoInteractions(databaseClient);
+        }
+    }
+
+    @Nested
+    class ListingTests {
+        @Test
+        void getCaregiverPageReturnsNextCursorWhenMoreRowsExist() {
+            stubRows(caregiverRow("a", "First"), caregiverRow("b", "Second"), caregiverRow("c", "Third"));
+
+            StepVerifier.create(reactiveDataService.getCaregiverPage(2, null))
+                    .assertNext(page -> {
+                        assertEquals(2, page.getItems().size());
+                        assertEquals(CaregiverCursor.encode("b"), page.getNextCursor());
+                    })
+                    .verifyComplete();
+
+            verify(executeSpec).bind("limit", 3);
+        }
+
+        @Test
+        void searchCaregiversEscapesNamePattern() {
+            stubRows(caregiverRow(ID, "100% Sehat"));
+
+            StepVerifier.create(reactiveDataService.searchCaregivers("100%", null))
+                    .assertNext(caregivers -> assertEquals(1, caregivers.size()))
+                    .verifyComplete();
+
+            verify(executeSpec).bind("name", "%100\\%%");
+        }
+
+        @Test
+        void exportCaregiversStreamsEveryRow() {
+            stubRows(caregiverRow("a", "First"), caregiverRow("b", "Second"));
+
+            StepVerifier.create(reactiveDataService.exportCaregivers().map(CaregiverPublicDto::getId))
+                    .expectNext("a", "b")
+                    .verifyComplete();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubRows(Readable... rows) {
+        doAnswer(invocation -> {
+            Function<Readable, Object> mapper = invocation.getArgument(0);
+            List<Object> mapped = Arrays.stream(rows).map(mapper).toList();
+            RowsFetchSpec<Object> fetchSpec = mock(RowsFetchSpec.class);
+            when(fetchSpec.one()).thenReturn(mapped.isEmpty() ? Mono.empty() : Mono.just(mapped.get(0)));
+            when(fetchSpec.all()).thenReturn(Flux.fromIterable(mapped));
+            return fetchSpec;
+        }).when(executeSpec).map(any(Function.class));
+    }
+
+    private static Readable caregiverRow(String id, String name) {
+        Readable row = mock(Readable.class);
+        when(row.get("id", String.class)).thenReturn(id);
+        when(row.get("name", String.class)).thenReturn(name);
+        when(row.get("email", String.class)).thenReturn(id + "@example.com");
+        when(row.get("speciality", String.class)).thenReturn(Speciality.DOKTER_UMUM.name());
+        when(row.get("work_address", String.class)).thenReturn("Jakarta");
+        when(row.get("phone_number", String.class)).thenReturn("08123456789");
+        return row;
+    }
+}
@@ -0,0 +1,129 @@
+package id.ac.ui.cs.advprog.beauthentication.service;
+
+import id.ac.ui.cs.advprog.beauthentication.exception.InvalidRefreshTokenException;
+import id.ac.ui.cs.advprog.beauthentication.model.RefreshToken;
+import id.ac.ui.cs.advprog.beauthentication.model.User;
+import id.ac.ui.cs.advprog.beauthentication.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class RefreshTokenServiceImplTest {
+
+    private static final long EXPIRATION_TIME = 60000;
+
+    private RefreshTokenRepository refreshTokenRepository;
+    private Counter refreshTokenReuseCounter;
+    private RefreshTokenServiceImpl refreshTokenService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepository = mock(RefreshTokenRepository.class);
+        refreshTokenReuseCounter = new SimpleMeterRegistry().counter("reuse");
+        refreshTokenService = new RefreshTokenServiceImpl(refreshTokenRepository, EXPIRATION_TIME, refreshTokenReuseCounter);
+        user = User.builder()
+                .id("user-id")
+                .email("user@example.com")
+                .build();
+    }
+
+    @Nested
+    class IssueTests {
+        @Test
+        void issueStoresOnlyTheHash() {
+            RefreshTokenService.IssuedRefreshToken issued = refreshTokenService.issue(user);
+
+            ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+            verify(refreshTokenRepository).save(captor.capture());
+            assertNotEquals(issued.refreshToken(), captor.getValue().getTokenHash());
+            assertEquals(issued.familyId(), captor.getValue().getFamilyId());
+            assertEquals(64, captor.getValue().getTokenHash().length());
+            assertSame(user, captor.getValue().getUser());
+            assertTrue(captor.getValue().getExpiresAt().isAfter(Instant.now()));
+        }
+    }
+
+    @Nested
+    class RotateTests {
+        @Test
+        void rotateIssuesNewTokenInSameFamily() {
+            RefreshToken current = createToken(false, Instant.now().plus(1, ChronoUnit.DAYS));
+            when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(current));
+            when(refreshTokenRepository.revokeIfActive(current.getId())).thenReturn(1);
+
+            RefreshTokenService.RotatedRefreshToken rotated = refreshTokenService.rotate("presented-token");
+
+            assertSame(user, rotated.user());
+            assertNotEquals("presented-token", rotated.refreshToken());
+            ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+            verify(refreshTokenRepository).save(captor.capture());
+            assertEquals(current.getFamilyId(), captor.getValue().getFamilyId());
+            assertEquals(current.getFamilyId(), rotated.familyId());
+        }
+
+        @Test
+        void rotateUnknownTokenFails() {
+            when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.empty());
+
+            assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotate("unknown"));
+            verify(refreshTokenRepository, never()).save(any());
+        }
+
+        @Test
+        void rotateRevokedTokenRevokesFamily() {
+            RefreshToken current = createToken(true, Instant.now().plus(1, ChronoUnit.DAYS));
+            when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(current));
+
+            assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotate("replayed"));
+
+            verify(refreshTokenRepository).revokeFamily(current.getFamilyId());
+            verify(refreshTokenRepository, never()).save(any());
+            assertEquals(1, refreshTokenReuseCounter.count());
+        }
+
+        @Test
+        void rotateLosingConcurrentRotationRevokesFamily() {
+            RefreshToken current = createToken(false, Instant.now().plus(1, ChronoUnit.DAYS));
+            when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(current));
+            when(refreshTokenRepository.revokeIfActive(current.getId())).thenReturn(0);
+
+            assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotate("raced"));
+
+            verify(refreshTokenRepository).revokeFamily(current.getFamilyId());
+        }
+
+        @Test
+        void rotateExpiredTokenFails() {
+            RefreshToken current = createToken(false, Instant.now().minus(1, ChronoUnit.MINUTES));
+            when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(current));
+            when(refreshTokenRepository.revokeIfActive(current.getId())).thenReturn(1);
+
+            assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotate("expired"));
+            verify(refreshTokenRepository, never()).save(any());
+        }
+    }
+
+    private RefreshToken createToken(boolean revoked, Instant expiresAt) {
+        return RefreshToken.builder()
+                .id("token-id")
+                .tokenHash("hash")
+                .familyId("family-id")
+                .user(user)
+                .expiresAt(expiresAt)
+                .revoked(revoked)
+                .build();
+    }
+}